@@ -26,7 +26,8 @@ CREATE TABLE users (
 CREATE TABLE refresh_tokens (
     token_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
-    hashed_refresh_token VARCHAR(255) NOT NULL,
+    jti VARCHAR(36) NOT NULL,
+    token_fingerprint VARCHAR(64) NOT NULL,
     is_revoked BIT NOT NULL,
     issued_at TIMESTAMP NOT NULL,
     expires_at TIMESTAMP NOT NULL,
@@ -53,7 +54,8 @@ CREATE TABLE news (
     comment_count INT NOT NULL DEFAULT 0,
     view_count INT NOT NULL DEFAULT 0,
     rating_count INT NOT NULL DEFAULT 0,
-    total_rating_sum DECIMAL(10,2) NOT NULL DEFAULT 0.00
+    total_rating_sum DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    average_rating DECIMAL(3,2) NOT NULL DEFAULT 0.00 -- total_rating_sum / rating_count, 평점 정렬/필터용
 ) ENGINE=InnoDB;
 
 -- 뉴스 컨텐츠 테이블 생성
@@ -87,6 +89,10 @@ CREATE TABLE comments (
     content TEXT NOT NULL,
     like_count INT DEFAULT 0,
     hate_count INT DEFAULT 0,
+    best_score DOUBLE NOT NULL DEFAULT 0,
+    reply_count INT NOT NULL DEFAULT 0,
+    depth INT NOT NULL DEFAULT 0,
+    path VARCHAR(255),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     parent_comment_id BIGINT,
@@ -115,17 +121,25 @@ CREATE INDEX idx_headline_score ON news (headline_score);
 CREATE INDEX idx_fact_score ON news (fact_score);
 CREATE INDEX idx_collected_at ON news (collected_at);
 CREATE INDEX idx_media_name ON news (media_name);
+CREATE INDEX idx_average_rating ON news (average_rating);
+CREATE INDEX idx_category_average_rating ON news (category, average_rating);
+CREATE FULLTEXT INDEX ft_news_title ON news (title) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_news_content_content ON news_content (content) WITH PARSER ngram;
 CREATE INDEX idx_user_id ON refresh_tokens (user_id);
 CREATE INDEX idx_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX idx_is_revoked ON refresh_tokens (is_revoked);
+CREATE UNIQUE INDEX uk_refresh_tokens_jti ON refresh_tokens (jti);
 CREATE INDEX idx_nickname ON users (nickname);
 CREATE INDEX idx_username ON users (username);
 CREATE INDEX idx_social_provider_id ON users (social_provider, social_id);
 
 CREATE INDEX idx_news_interactions_user_id ON news_interactions (user_id);
 CREATE INDEX idx_news_interactions_news_id ON news_interactions (news_id);
-CREATE INDEX idx_comments_news_id ON comments (news_id);
+CREATE INDEX idx_comments_news_parent_created_at ON comments (news_id, parent_comment_id, created_at);
+CREATE INDEX idx_comments_news_parent_best_score ON comments (news_id, parent_comment_id, best_score);
 CREATE INDEX idx_comments_user_id ON comments (user_id);
-CREATE INDEX idx_comment_interactions_user_id ON comment_interactions (user_id);
+CREATE INDEX idx_comments_path ON comments (path);
+CREATE INDEX idx_comment_interactions_user_comment ON comment_interactions (user_id, comment_id);
 CREATE INDEX idx_comment_interactions_comment_id ON comment_interactions (comment_id);
 
 
@@ -0,0 +1,13 @@
+-- 평균 평점 컬럼 추가 (평점 정렬/필터 시 매 행마다 total_rating_sum / rating_count를 계산하지 않고 인덱스를 사용하기 위함)
+-- 이미 운영 중인 DB에 적용, 신규 DB는 ddl.sql에 반영되어 있음
+USE facticle;
+
+ALTER TABLE news
+    ADD COLUMN average_rating DECIMAL(3,2) NOT NULL DEFAULT 0.00 AFTER total_rating_sum;
+
+-- 기존 데이터 채우기
+UPDATE news
+SET average_rating = CASE WHEN rating_count = 0 THEN 0 ELSE total_rating_sum / rating_count END;
+
+CREATE INDEX idx_average_rating ON news (average_rating);
+CREATE INDEX idx_category_average_rating ON news (category, average_rating);
@@ -0,0 +1,7 @@
+-- OpenSearch 장애 시 대체 검색(MySQL FULLTEXT)을 위한 ngram FULLTEXT 인덱스 추가
+-- 이미 운영 중인 DB에 적용, 신규 DB는 ddl.sql에 반영되어 있음
+-- 한글 검색을 위해 ngram parser 사용(기본 토큰 크기 ngram_token_size = 2)
+USE facticle;
+
+ALTER TABLE news ADD FULLTEXT INDEX ft_news_title (title) WITH PARSER ngram;
+ALTER TABLE news_content ADD FULLTEXT INDEX ft_news_content_content (content) WITH PARSER ngram;
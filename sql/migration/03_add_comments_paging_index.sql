@@ -0,0 +1,6 @@
+-- 댓글 커서 페이징(최상위 댓글, 답글)을 위한 (news_id, parent_comment_id, created_at) 인덱스 추가
+-- 기존 idx_comments_news_id는 새 인덱스의 prefix이므로 삭제(news_id 외래 키도 새 인덱스 사용)
+USE facticle;
+
+CREATE INDEX idx_comments_news_parent_created_at ON comments (news_id, parent_comment_id, created_at);
+DROP INDEX idx_comments_news_id ON comments;
@@ -0,0 +1,15 @@
+-- 추천순 댓글 정렬을 위한 best_score 컬럼(좋아요 비율의 Wilson score 하한, z = 1.96)과 (news_id, parent_comment_id, best_score) 인덱스 추가
+-- 이후 값은 애플리케이션(Comment 엔티티)에서 좋아요/싫어요 수가 바뀔 때 갱신
+USE facticle;
+
+ALTER TABLE comments ADD COLUMN best_score DOUBLE NOT NULL DEFAULT 0 AFTER hate_count;
+
+UPDATE comments
+SET best_score = (
+        like_count / (like_count + hate_count) + 1.96 * 1.96 / (2 * (like_count + hate_count))
+        - 1.96 * SQRT((like_count / (like_count + hate_count) * (1 - like_count / (like_count + hate_count))
+                       + 1.96 * 1.96 / (4 * (like_count + hate_count))) / (like_count + hate_count))
+    ) / (1 + 1.96 * 1.96 / (like_count + hate_count))
+WHERE like_count > 0;
+
+CREATE INDEX idx_comments_news_parent_best_score ON comments (news_id, parent_comment_id, best_score);
@@ -0,0 +1,7 @@
+-- 댓글 목록 조회 시 유저가 현재 페이지의 댓글에 남긴 반응을 (user_id = ? AND comment_id IN (페이지의 댓글 id)) 범위 조회로 찾기 위한 (user_id, comment_id) 인덱스 추가
+-- (CommentInteractionRepository.findReactionsByUserAndComments, comments와 조인하지 않음)
+-- 기존 idx_comment_interactions_user_id는 새 인덱스의 prefix이므로 삭제(user_id 외래 키도 새 인덱스 사용)
+USE facticle;
+
+CREATE INDEX idx_comment_interactions_user_comment ON comment_interactions (user_id, comment_id);
+DROP INDEX idx_comment_interactions_user_id ON comment_interactions;
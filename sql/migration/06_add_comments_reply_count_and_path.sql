@@ -0,0 +1,44 @@
+-- 댓글 트리 정보 비정규화: 답글 수(reply_count), 깊이(depth), 최상위 댓글부터의 경로(path, /1/5/12/) 추가
+-- path로 시작하는 댓글이 하위 댓글 전체이므로, 댓글 삭제 시 함께 삭제되는 댓글 수를 구할 때 사용
+-- 기존 데이터는 재귀 CTE로 계산하고, 하위 답글 삭제를 반영하지 못해 어긋난 news.comment_count도 다시 집계
+USE facticle;
+
+ALTER TABLE comments
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0 AFTER best_score,
+    ADD COLUMN depth INT NOT NULL DEFAULT 0 AFTER reply_count,
+    ADD COLUMN path VARCHAR(255) AFTER depth;
+
+UPDATE comments c
+    JOIN (
+        WITH RECURSIVE tree (comment_id, depth, path) AS (
+            SELECT comment_id, 0, CAST(CONCAT('/', comment_id, '/') AS CHAR(255))
+            FROM comments
+            WHERE parent_comment_id IS NULL
+            UNION ALL
+            SELECT child.comment_id, tree.depth + 1, CONCAT(tree.path, child.comment_id, '/')
+            FROM comments child
+                JOIN tree ON child.parent_comment_id = tree.comment_id
+        )
+        SELECT comment_id, depth, path FROM tree
+    ) t ON t.comment_id = c.comment_id
+SET c.depth = t.depth,
+    c.path = t.path;
+
+UPDATE comments c
+    JOIN (
+        SELECT parent_comment_id, COUNT(*) AS reply_count
+        FROM comments
+        WHERE parent_comment_id IS NOT NULL
+        GROUP BY parent_comment_id
+    ) r ON r.parent_comment_id = c.comment_id
+SET c.reply_count = r.reply_count;
+
+UPDATE news n
+    LEFT JOIN (
+        SELECT news_id, COUNT(*) AS comment_count
+        FROM comments
+        GROUP BY news_id
+    ) c ON c.news_id = n.news_id
+SET n.comment_count = COALESCE(c.comment_count, 0);
+
+CREATE INDEX idx_comments_path ON comments (path);
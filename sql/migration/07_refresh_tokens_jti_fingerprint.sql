@@ -0,0 +1,12 @@
+-- refresh token을 BCrypt 해시 대신 jti(unique index)로 조회하고 SHA-256 fingerprint로 검증하도록 변경
+-- 기존 BCrypt 해시는 fingerprint로 변환할 수 없으므로 기존 refresh token은 삭제(사용자는 다시 로그인)
+USE facticle;
+
+DELETE FROM refresh_tokens;
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN jti VARCHAR(36) NOT NULL AFTER user_id,
+    ADD COLUMN token_fingerprint VARCHAR(64) NOT NULL AFTER jti,
+    DROP COLUMN hashed_refresh_token;
+
+CREATE UNIQUE INDEX uk_refresh_tokens_jti ON refresh_tokens (jti);
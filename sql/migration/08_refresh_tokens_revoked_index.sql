@@ -0,0 +1,5 @@
+-- RefreshTokenReaper가 revoke된 refresh token을 LIMIT 단위로 삭제할 때 사용하는 인덱스 추가
+-- 기존에 쌓인 만료/revoke 토큰은 reaper가 chunk 단위로 삭제하므로 여기서 한 번에 삭제하지 않음
+USE facticle;
+
+CREATE INDEX idx_is_revoked ON refresh_tokens (is_revoked);
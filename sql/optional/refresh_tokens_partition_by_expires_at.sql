@@ -0,0 +1,36 @@
+-- (선택) refresh_tokens를 expires_at 기준 일 단위 RANGE 파티션으로 변경
+-- 만료된 토큰을 DELETE 대신 오래된 파티션 DROP으로 한 번에 제거할 수 있음(undo log, row lock 없이 메타데이터 변경만 발생)
+-- 파티션을 사용하지 않아도 RefreshTokenReaper가 chunk 단위 DELETE로 정리하므로, 토큰 발급량이 많아 DELETE 부하가 문제될 때만 적용
+--
+-- MySQL 파티션 제약에 따른 변경 사항
+-- 1. 파티션 테이블은 외래 키를 지원하지 않으므로 FK_refresh_tokens_user를 삭제
+--    => 사용자 삭제 시 refresh token은 DB cascade가 아니라 JPA cascade(User.refreshTokens)로 삭제됨
+-- 2. 모든 unique key(PK 포함)에 파티션 컬럼이 포함되어야 하므로 PK와 jti unique index에 expires_at을 추가
+--    => jti 단독 유일성은 DB가 보장하지 않음(jti는 UUID이므로 충돌 가능성은 무시 가능, findByJti 조회는 index prefix로 동일하게 동작)
+-- 3. TIMESTAMP 컬럼은 UNIX_TIMESTAMP()로만 RANGE 파티션 가능
+USE facticle;
+
+ALTER TABLE refresh_tokens DROP FOREIGN KEY FK_refresh_tokens_user;
+
+ALTER TABLE refresh_tokens
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (token_id, expires_at),
+    DROP INDEX uk_refresh_tokens_jti,
+    ADD UNIQUE INDEX uk_refresh_tokens_jti (jti, expires_at);
+
+-- 적용 시점에 맞게 파티션 경계를 조정(refresh token 유효 기간보다 과거의 파티션은 비어있어야 정상)
+ALTER TABLE refresh_tokens
+    PARTITION BY RANGE (UNIX_TIMESTAMP(expires_at)) (
+        PARTITION p20250101 VALUES LESS THAN (UNIX_TIMESTAMP('2025-01-02 00:00:00')),
+        PARTITION p20250102 VALUES LESS THAN (UNIX_TIMESTAMP('2025-01-03 00:00:00')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
+
+-- 운영 시 매일 실행
+-- 1) 다음 날 파티션 추가: pmax를 분할
+-- ALTER TABLE refresh_tokens REORGANIZE PARTITION pmax INTO (
+--     PARTITION p20250103 VALUES LESS THAN (UNIX_TIMESTAMP('2025-01-04 00:00:00')),
+--     PARTITION pmax VALUES LESS THAN MAXVALUE
+-- );
+-- 2) 모든 토큰이 만료된 파티션 삭제
+-- ALTER TABLE refresh_tokens DROP PARTITION p20250101;
@@ -0,0 +1,94 @@
+package com.example.facticle.common.authority;
+
+import com.example.facticle.common.dto.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 access token의 인증 정보 로컬 캐시
+ * 같은 토큰으로 다시 요청하면 서명 검증과 클레임 파싱 없이 인증 정보를 사용
+ * - 키는 토큰 원문이 아닌 SHA-256 해시(메모리 덤프 등으로 토큰이 노출되지 않도록)
+ * - 항목은 토큰의 만료 시간(exp)에 함께 만료되므로, 만료된 토큰이 캐시로 인증되지 않음
+ * access token은 원래 서버에 상태를 두지 않아 만료 전까지 유효하므로 캐시해도 인증 결과는 같음
+ * hit/miss 등의 통계는 cache.* 메트릭(cache=jwtAuthentication)으로 노출
+ */
+@Component
+public class AccessTokenAuthenticationCache {
+    private final Cache<String, CachedAuthentication> cache;
+
+    public AccessTokenAuthenticationCache(@Value("${jwt.authentication-cache.maximum-size:10000}") long maximumSize,
+                                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getExpiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtAuthentication");
+    }
+
+    /**
+     * 캐시된 인증 정보로 새 Authentication을 생성해서 반환, 없거나 만료되었다면 null
+     * (Authentication은 요청마다 상태가 바뀔 수 있으므로 공유하지 않고 principal, 권한만 공유)
+     */
+    public Authentication getIfPresent(String token) {
+        CachedAuthentication cached = cache.getIfPresent(hash(token));
+        if (cached == null) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(cached.getPrincipal(), "", cached.getPrincipal().getAuthorities());
+    }
+
+    public void put(String token, Authentication authentication, Date expiration) {
+        if (expiration == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
+            return;
+        }
+        cache.put(hash(token), new CachedAuthentication((CustomUserDetails) authentication.getPrincipal(), expiration.getTime()));
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedAuthentication {
+        private final CustomUserDetails principal;
+        private final long expiresAtMillis;
+    }
+}
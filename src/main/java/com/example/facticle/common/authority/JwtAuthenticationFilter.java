@@ -24,6 +24,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenAuthenticationCache accessTokenAuthenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -31,16 +32,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         //token이 존재하고, 유효한 경우
         if(StringUtils.hasText(token)){
-            TokenValidationResult tokenValidationResult = jwtTokenProvider.validateToken(token); //검사 결과를 가져옴
+            //이미 검증한 access token이라면 서명 검증, 파싱 없이 캐시된 인증 정보를 사용
+            Authentication cachedAuthentication = accessTokenAuthenticationCache.getIfPresent(token);
+            if(cachedAuthentication != null){
+                SecurityContextHolder.getContext().setAuthentication(cachedAuthentication);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            //검증과 파싱은 한 번만 하고, 토큰 타입과 Authentication은 파싱한 클레임으로 확인
+            JwtParseResult parseResult = jwtTokenProvider.parseToken(token);
+            TokenValidationResult tokenValidationResult = parseResult.getResult(); //검사 결과를 가져옴
 
             if(tokenValidationResult == TokenValidationResult.VALID){ //유효하다면 Authentication 저장
-                if(!jwtTokenProvider.getTokenType(token).equals("ACCESS")){ //access token이 아닌경우
+                if(!"ACCESS".equals(parseResult.getTokenType())){ //access token이 아닌경우
                     log.warn("Invalid Token Type: Only Access Token is allowed");
                     throw new InsufficientAuthenticationException("Invalid Token Type: Only Access Token is allowed"); //filter 내부에서 발생한 인증오류 이므로 AuthenticationEntryPoint를 호출하게 됨
                 }
 
-                //토큰의 정보를 기반으로 Authentication 생성
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                //토큰의 정보를 기반으로 Authentication 생성, 토큰 만료 시까지 캐시
+                Authentication authentication = jwtTokenProvider.getAuthentication(parseResult.getClaims());
+                accessTokenAuthenticationCache.put(token, authentication, parseResult.getClaims().getExpiration());
 
                 //SecurityContextHolder에 Authentication 정보 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
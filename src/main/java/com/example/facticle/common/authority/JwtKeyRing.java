@@ -0,0 +1,228 @@
+package com.example.facticle.common.authority;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 목록(key ring)
+ * - 서명: 활성 키(activeKid)로 서명하고 헤더에 kid를 추가
+ * - 검증: 토큰 헤더의 kid로 메모리의 키 목록에서 검증 키를 찾음(SigningKeyResolver)
+ * 키는 jwt.signing.keystore.path의 PKCS12 keystore에서 읽음(alias = kid)
+ * - HS256: SecretKeyEntry(HmacSHA256), ES256: PrivateKeyEntry(EC P-256, 검증은 인증서의 공개 키만 사용)
+ * - ES256은 검증 서버에 공개 키만 배포하면 되므로 서명 secret을 공유하지 않아도 됨
+ * keystore 파일이 바뀌면 다시 읽고, keystore에서 제거된 키도 grace period 동안은 검증에 사용(키 교체 시 기존 토큰이 바로 무효화되지 않도록)
+ * keystore를 지정하지 않으면 기존처럼 jwt.secret으로 만든 HS256 키 하나만 사용
+ * kid가 없는 토큰(key ring 도입 전 발급)은 jwt.secret 키로 검증
+ * - keystore 사용 시에는 jwt.signing.legacy-token-deadline(절대 시각)까지만 허용하고, 지정하지 않으면 허용하지 않음
+ *   (jwt.secret은 설정 파일에 있으므로, 재시작할 때마다 늘어나는 기간으로 허용하면 위조된 kid 없는 토큰이 계속 허용됨)
+ * EdDSA는 사용 중인 jjwt 0.11에서 지원하지 않으므로 HS256, ES256만 지원
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+    static final String DEFAULT_KID = "default";
+    private static final String LEGACY_KID = "";
+
+    private final SignatureAlgorithm algorithm;
+    private final Path keystorePath;
+    private final char[] keystorePassword;
+    private final String activeAlias;
+    private final Duration gracePeriod;
+
+    //읽기가 훨씬 많으므로 불변 상태를 통째로 교체(volatile)해서 검증 시 락 없이 조회
+    private volatile State state;
+    private volatile long keystoreLastModified;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+                      @Value("${jwt.signing.keystore.path:}") String keystorePath,
+                      @Value("${jwt.signing.keystore.password:}") String keystorePassword,
+                      @Value("${jwt.signing.keystore.active-alias:}") String activeAlias,
+                      @Value("${jwt.signing.grace-period-ms:7200000}") long gracePeriodMillis,
+                      @Value("${jwt.signing.legacy-token-deadline:}") String legacyTokenDeadline) {
+        this.algorithm = SignatureAlgorithm.forName(algorithm);
+        if (this.algorithm != SignatureAlgorithm.HS256 && this.algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("unsupported jwt signing algorithm: " + algorithm + " (HS256, ES256 only)");
+        }
+        this.keystorePath = (keystorePath == null || keystorePath.isBlank()) ? null : Path.of(keystorePath);
+        this.keystorePassword = (keystorePassword == null) ? new char[0] : keystorePassword.toCharArray();
+        this.activeAlias = activeAlias;
+        this.gracePeriod = Duration.ofMillis(gracePeriodMillis);
+        Key legacyKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+
+        if (this.keystorePath == null) {
+            if (this.algorithm != SignatureAlgorithm.HS256) {
+                throw new IllegalStateException("jwt.signing.keystore.path is required for " + algorithm);
+            }
+            Map<String, KeyEntry> keys = new HashMap<>();
+            keys.put(DEFAULT_KID, new KeyEntry(legacyKey, SignatureAlgorithm.HS256, null));
+            keys.put(LEGACY_KID, new KeyEntry(legacyKey, SignatureAlgorithm.HS256, null));
+            this.state = new State(DEFAULT_KID, legacyKey, Collections.unmodifiableMap(keys));
+        } else {
+            Map<String, KeyEntry> keys = new HashMap<>();
+            Instant deadline = (legacyTokenDeadline == null || legacyTokenDeadline.isBlank()) ? null : Instant.parse(legacyTokenDeadline);
+            if (deadline != null && Instant.now().isBefore(deadline)) {
+                keys.put(LEGACY_KID, new KeyEntry(legacyKey, SignatureAlgorithm.HS256, deadline));
+            }
+            this.state = new State(null, null, Collections.unmodifiableMap(keys));
+            reload();
+        }
+    }
+
+    /**
+     * 활성 키로 서명하고 헤더에 kid 추가
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        State current = state;
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, current.getActiveKid())
+                .signWith(current.getSigningKey(), algorithm);
+    }
+
+    public String getActiveKid() {
+        return state.getActiveKid();
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 토큰 헤더의 kid에 해당하는 검증 키
+     * 모르는 kid, grace period가 지난 키, 키와 다른 알고리즘이라면 SignatureException(검증 실패)
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = (header.getKeyId() != null) ? header.getKeyId() : LEGACY_KID;
+        KeyEntry entry = state.getKeys().get(kid);
+        if (entry == null || isExpired(entry, Instant.now())) {
+            throw new SignatureException("unknown or retired signing key: " + kid);
+        }
+        if (!entry.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("signing algorithm does not match key: " + kid);
+        }
+        return entry.getVerifyKey();
+    }
+
+    /**
+     * keystore 파일이 바뀌었다면 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.keystore.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (keystorePath == null) {
+            return;
+        }
+        try {
+            if (Files.getLastModifiedTime(keystorePath).toMillis() != keystoreLastModified) {
+                reload();
+            }
+        } catch (IOException | RuntimeException e) {
+            //읽기에 실패하면 기존 키를 그대로 사용
+            log.error("JWT keystore reload failed, keep current keys", e);
+        }
+    }
+
+    /**
+     * keystore의 키로 key ring을 다시 구성
+     * keystore에서 제거된 키는 제거된 시점부터 grace period 동안, kid 없는 토큰용 키는 legacy-token-deadline까지 검증용으로 유지
+     */
+    synchronized void reload() {
+        try {
+            long lastModified = Files.getLastModifiedTime(keystorePath).toMillis();
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            try (InputStream in = Files.newInputStream(keystorePath)) {
+                keyStore.load(in, keystorePassword);
+            }
+
+            Instant now = Instant.now();
+            Map<String, KeyEntry> keys = new HashMap<>();
+            Key signingKey = null;
+            for (String alias : Collections.list(keyStore.aliases())) {
+                KeyStore.Entry entry = keyStore.getEntry(alias, new KeyStore.PasswordProtection(keystorePassword));
+                if (entry instanceof KeyStore.SecretKeyEntry) {
+                    Key secretKey = ((KeyStore.SecretKeyEntry) entry).getSecretKey();
+                    keys.put(alias, new KeyEntry(secretKey, SignatureAlgorithm.HS256, null));
+                    if (alias.equals(activeAlias)) {
+                        signingKey = secretKey;
+                    }
+                } else if (entry instanceof KeyStore.PrivateKeyEntry) {
+                    KeyStore.PrivateKeyEntry privateKeyEntry = (KeyStore.PrivateKeyEntry) entry;
+                    if (!(privateKeyEntry.getCertificate().getPublicKey() instanceof ECPublicKey)) {
+                        log.warn("JWT keystore alias {} is not an EC key, skipped", alias);
+                        continue;
+                    }
+                    keys.put(alias, new KeyEntry(privateKeyEntry.getCertificate().getPublicKey(), SignatureAlgorithm.ES256, null));
+                    if (alias.equals(activeAlias)) {
+                        signingKey = privateKeyEntry.getPrivateKey();
+                    }
+                }
+            }
+
+            KeyEntry active = keys.get(activeAlias);
+            if (signingKey == null || active.getAlgorithm() != algorithm) {
+                throw new IllegalStateException("JWT keystore has no " + algorithm + " key for active alias: " + activeAlias);
+            }
+
+            //제거된 키는 grace period 동안 유지
+            state.getKeys().forEach((kid, entry) -> {
+                if (!keys.containsKey(kid)) {
+                    KeyEntry retired = (entry.getExpiresAt() != null) ? entry : new KeyEntry(entry.getVerifyKey(), entry.getAlgorithm(), now.plus(gracePeriod));
+                    if (!isExpired(retired, now)) {
+                        keys.put(kid, retired);
+                    }
+                }
+            });
+
+            this.state = new State(activeAlias, signingKey, Collections.unmodifiableMap(keys));
+            this.keystoreLastModified = lastModified;
+            log.info("JWT key ring loaded, active kid {}, kids {}", activeAlias, keys.keySet());
+        } catch (IOException | java.security.GeneralSecurityException e) {
+            throw new IllegalStateException("failed to load JWT keystore: " + keystorePath, e);
+        }
+    }
+
+    private boolean isExpired(KeyEntry entry, Instant now) {
+        return entry.getExpiresAt() != null && now.isAfter(entry.getExpiresAt());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class State {
+        private final String activeKid;
+        private final Key signingKey;
+        private final Map<String, KeyEntry> keys;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class KeyEntry {
+        private final Key verifyKey;
+        private final SignatureAlgorithm algorithm;
+        private final Instant expiresAt; //검증에 사용할 수 있는 마지막 시점, keystore에서 제거되지 않은 키라면 null
+    }
+}
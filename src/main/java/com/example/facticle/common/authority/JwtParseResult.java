@@ -0,0 +1,33 @@
+package com.example.facticle.common.authority;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰을 한 번 파싱(서명 검증 포함)한 결과
+ * 검증 결과와 함께 클레임을 담아서, 토큰 타입이나 권한을 확인할 때 토큰을 다시 파싱하지 않도록 함(유효하지 않다면 claims는 null)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtParseResult {
+    private final TokenValidationResult result;
+    private final Claims claims;
+
+    public static JwtParseResult valid(Claims claims) {
+        return new JwtParseResult(TokenValidationResult.VALID, claims);
+    }
+
+    public static JwtParseResult of(TokenValidationResult result) {
+        return new JwtParseResult(result, null);
+    }
+
+    public boolean isValid() {
+        return result == TokenValidationResult.VALID;
+    }
+
+    public String getTokenType() {
+        return claims.get("tokenType", String.class);
+    }
+}
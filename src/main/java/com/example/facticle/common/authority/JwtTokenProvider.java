@@ -1,19 +1,18 @@
 package com.example.facticle.common.authority;
 
 import com.example.facticle.common.dto.CustomUserDetails;
+import com.example.facticle.user.entity.UserRole;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -22,10 +21,11 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    //서명 키, 알고리즘, kid 관리(키 교체 포함)는 JwtKeyRing에 위임
+    private final JwtKeyRing jwtKeyRing;
 
     @Value("${jwt.access-token-valid-time}")
     private long accessTokenValidTime;
@@ -33,16 +33,13 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-valid-time}")
     private long refreshTokenValidTime;
 
-    private Key key;
+    //JwtParser는 불변이고 thread-safe하므로 init에서 한 번만 생성해서 재사용
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init(){
-        //JWT를 서명할 때 사용하는 key는 각 서명화 알고리즘에 맞는 키 타입을 사용해야 함
-        //(Jwts.builder().signWith(key, SignatureAlgorithm.HS256)에서 key 파라미터는 SecretKey 또는 Key 객체를 인자로 받음(string은 안 됨))
-        //여기선 HS256을 사용할 예정이니 hmacShaKeyFor()로 secret key를 key타입으로 바꿔주는 과정을 거침
-        //현재 secretKey가 BASE64인코딩 되어 있으므로 디코딩해주고, 해당 값으로 key를 생성
-        //secretKey가 BSAE64 인코딩 되어 있는 문자열이 아니라면 예외 발생 가능 => 추후 더 안전하게 리팩토링 하려면 secretkey가 BASE64 형식이 아닌 경우 exception 발생하도록 보완 가능
-        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        //검증 키는 고정 키 대신 토큰 헤더의 kid로 JwtKeyRing에서 찾음(키가 교체되어도 parser를 다시 만들 필요 없음)
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(jwtKeyRing).build();
     }
 
 
@@ -72,15 +69,14 @@ public class JwtTokenProvider {
         Date expiration = new Date(now.getTime() + accessTokenValidTime);
 
         //JWT 발급
-        return Jwts.builder()
+        return jwtKeyRing.sign(Jwts.builder()
                 .setSubject(tokenId.toString())
                 .claim("auth", authorities)
                 .claim("username", username)
                 .claim("userId", userId)
                 .claim("tokenType", "ACCESS")
                 .setIssuedAt(now)
-                .setExpiration(expiration)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(expiration))
                 .compact();
     }
 
@@ -104,14 +100,15 @@ public class JwtTokenProvider {
         Date expiration = new Date(now.getTime() + refreshTokenValidTime);
 
         //JWT 발급
-        return Jwts.builder()
+        //jti는 DB에 저장된 refresh token을 찾는 키로 사용
+        return jwtKeyRing.sign(Jwts.builder()
                 .setSubject(tokenId.toString())
+                .setId(tokenId.toString())
                 .claim("userId", userId)
                 .claim("username", username)
                 .claim("tokenType", "REFRESH")
                 .setIssuedAt(now)
-                .setExpiration(expiration)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(expiration))
                 .compact();
     }
 
@@ -119,12 +116,20 @@ public class JwtTokenProvider {
      * 토큰 검증
      */
     public TokenValidationResult validateToken(String token) {
+        return parseToken(token).getResult();
+    }
+
+    /**
+     * 토큰 검증 및 클레임 파싱을 한 번에 처리
+     * 검증 후 토큰 타입, 권한 등을 확인할 때는 결과의 클레임을 사용해서 같은 토큰을 여러 번 파싱하지 않도록 함
+     */
+    public JwtParseResult parseToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token); //서명 검증 및 클레임 파싱
-            return TokenValidationResult.VALID;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody(); //서명 검증 및 클레임 파싱
+            return JwtParseResult.valid(claims);
         } catch (ExpiredJwtException e) { //토큰이 만료된 경우
             log.warn("Expired JWT Token: {}", e.getMessage());
-            return TokenValidationResult.EXPIRED;
+            return JwtParseResult.of(TokenValidationResult.EXPIRED);
         } catch (UnsupportedJwtException e) { //토큰의 형식이나 구조가 이상한 경우
             log.warn("Unsupported JWT Token: {}", e.getMessage());
         } catch (MalformedJwtException e) { //토큰이 유효하지 않은 경우
@@ -134,7 +139,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) { //토큰이 비어있거나 null인 경우
             log.warn("JWT Claims string is empty: {}", e.getMessage());
         }
-        return TokenValidationResult.INVALID;
+        return JwtParseResult.of(TokenValidationResult.INVALID);
     }
 
 
@@ -142,9 +147,7 @@ public class JwtTokenProvider {
      * 토큰 정보 조회 메서드들
      */
     public Claims getClaims(String token){
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -165,15 +168,13 @@ public class JwtTokenProvider {
         return getClaims(token).get("tokenType", String.class);
     }
 
+    public String getJti(String token){
+        return getClaims(token).getId();
+    }
+
+    //역할별로 미리 생성된 불변 권한 목록을 사용(UserRole.authoritiesOf)
     public List<GrantedAuthority> getAuthorities(String token){
-        Claims claims = getClaims(token);
-        String auth = claims.get("auth", String.class);
-        if(auth == null || auth.isEmpty()){
-            return Collections.emptyList();
-        }
-        return Arrays.stream(auth.split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return UserRole.authoritiesOf(getClaims(token).get("auth", String.class));
     }
 
     // 토큰의 발급 시간(issuedAt) 조회
@@ -200,13 +201,14 @@ public class JwtTokenProvider {
 
     //토큰 정보 추출 -> 토큰 검증이 완료된 후 SecurityContextHolder에 저장할 Authentication 객체 생성을 위함
     public Authentication getAuthentication(String token){
-        Claims claims = getClaims(token);
+        return getAuthentication(getClaims(token));
+    }
+
+    //이미 검증, 파싱한 클레임으로 Authentication 생성
+    public Authentication getAuthentication(Claims claims){
         Long userId = claims.get("userId", Long.class);
         String username = claims.get("username", String.class);
-        String auth = claims.get("auth", String.class);
-        List<GrantedAuthority> authorities = Arrays.stream(auth.split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        List<GrantedAuthority> authorities = UserRole.authoritiesOf(claims.get("auth", String.class));
 
         //인증이 완료된 객체는 일반적으로 비밀번호를 공백으로 설정
         UserDetails principal = new CustomUserDetails(userId, username, "", authorities);
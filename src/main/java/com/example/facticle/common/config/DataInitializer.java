@@ -1,43 +1,29 @@
 package com.example.facticle.common.config;
 
+import com.example.facticle.common.authority.JwtKeyRing;
 import com.example.facticle.common.authority.JwtTokenProvider;
 import com.example.facticle.user.entity.*;
 import com.example.facticle.user.repository.RefreshTokenRepository;
 import com.example.facticle.user.repository.UserRepository;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.security.Key;
 import java.time.Instant;
-import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Configuration
 @Slf4j
 @Profile("!test") //테스트 코드에는 적용 x
 public class DataInitializer {
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    private Key key;
-
-    @PostConstruct
-    public void init(){
-        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
-    }
-
     @Bean
-    public CommandLineRunner initData(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, RefreshTokenRepository refreshTokenRepository) {
+    public CommandLineRunner initData(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, JwtKeyRing jwtKeyRing, RefreshTokenRepository refreshTokenRepository) {
         return args -> {
             if (userRepository.count() == 0) { // 데이터가 없을 때만 추가
                 User user1 = User.builder()
@@ -68,31 +54,31 @@ public class DataInitializer {
                 Date accessExpiration = new Date(fixedIssuedAtMillis + accessTokenValidity);
                 Date refreshExpiration = new Date(fixedIssuedAtMillis + refreshTokenValidity);
 
-                String user1AccessTokenJwt = Jwts.builder()
+                String user1AccessTokenJwt = jwtKeyRing.sign(Jwts.builder()
                         .setSubject("1")
                         .claim("auth", "ROLE_" + user1.getRole().name())
                         .claim("username", user1.getLocalAuth().getUsername())
                         .claim("userId", user1.getUserId())
                         .claim("tokenType", "ACCESS")
                         .setIssuedAt(fixedIssuedAt)
-                        .setExpiration(accessExpiration)
-                        .signWith(key, SignatureAlgorithm.HS256)
+                        .setExpiration(accessExpiration))
                         .compact();
 
-                //JWT 발급
-                String user1RefreshTokenJwt = Jwts.builder()
+                //JWT 발급, jti는 DB에 저장된 refresh token을 찾는 키(NOT NULL, unique)이므로 JwtTokenProvider.createRefreshToken과 같이 UUID로 지정
+                String user1RefreshTokenJwt = jwtKeyRing.sign(Jwts.builder()
                         .setSubject("1")
+                        .setId(UUID.randomUUID().toString())
                         .claim("userId", user1.getUserId())
                         .claim("username", user1.getLocalAuth().getUsername())
                         .claim("tokenType", "REFRESH")
                         .setIssuedAt(fixedIssuedAt)
-                        .setExpiration(refreshExpiration)
-                        .signWith(key, SignatureAlgorithm.HS256)
+                        .setExpiration(refreshExpiration))
                         .compact();
 
                 RefreshToken user1RefreshToken = RefreshToken.builder()
                         .issuedAt(jwtTokenProvider.getIssuedAt(user1RefreshTokenJwt))
-                        .hashedRefreshToken(passwordEncoder.encode(user1RefreshTokenJwt))
+                        .jti(jwtTokenProvider.getJti(user1RefreshTokenJwt))
+                        .tokenFingerprint(RefreshToken.fingerprint(user1RefreshTokenJwt))
                         .isRevoked(false)
                         .user(user1)
                         .expiresAt(jwtTokenProvider.getExpiresAt(user1RefreshTokenJwt))
@@ -100,31 +86,31 @@ public class DataInitializer {
 
                 user1.addRefreshToken(user1RefreshToken);
 
-                String user2AccessTokenJwt = Jwts.builder()
+                String user2AccessTokenJwt = jwtKeyRing.sign(Jwts.builder()
                         .setSubject("2")
                         .claim("auth", "ROLE_" + user2.getRole().name())
                         .claim("username", user2.getLocalAuth().getUsername())
                         .claim("userId", user2.getUserId())
                         .claim("tokenType", "ACCESS")
                         .setIssuedAt(fixedIssuedAt)
-                        .setExpiration(accessExpiration)
-                        .signWith(key, SignatureAlgorithm.HS256)
+                        .setExpiration(accessExpiration))
                         .compact();
 
                 //JWT 발급
-                String user2RefreshTokenJwt = Jwts.builder()
+                String user2RefreshTokenJwt = jwtKeyRing.sign(Jwts.builder()
                         .setSubject("2")
+                        .setId(UUID.randomUUID().toString())
                         .claim("userId", user2.getUserId())
                         .claim("username", user2.getLocalAuth().getUsername())
                         .claim("tokenType", "REFRESH")
                         .setIssuedAt(fixedIssuedAt)
-                        .setExpiration(refreshExpiration)
-                        .signWith(key, SignatureAlgorithm.HS256)
+                        .setExpiration(refreshExpiration))
                         .compact();
 
                 RefreshToken user2RefreshToken = RefreshToken.builder()
                         .issuedAt(jwtTokenProvider.getIssuedAt(user2RefreshTokenJwt))
-                        .hashedRefreshToken(passwordEncoder.encode(user2RefreshTokenJwt))
+                        .jti(jwtTokenProvider.getJti(user2RefreshTokenJwt))
+                        .tokenFingerprint(RefreshToken.fingerprint(user2RefreshTokenJwt))
                         .isRevoked(false)
                         .user(user2)
                         .expiresAt(jwtTokenProvider.getExpiresAt(user2RefreshTokenJwt))
@@ -1,22 +1,72 @@
 package com.example.facticle.common.config;
 
 import org.apache.http.HttpHost;
+import org.opensearch.client.HttpAsyncResponseConsumerFactory;
+import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
+@Profile("!local & !test") //local, test 프로필은 OpenSearch 없이 MySQL FULLTEXT로 검색
 public class OpenSearchConfig {
 
     @Value("${opensearch.endpoint}")
     private String host;
 
+    //커넥션 풀, 기본값(route당 10개, 전체 30개)은 동시 검색 요청이 많으면 커넥션을 기다리느라 지연됨
+    @Value("${opensearch.client.max-conn-total:100}")
+    private int maxConnTotal;
+    @Value("${opensearch.client.max-conn-per-route:50}")
+    private int maxConnPerRoute;
+
+    //timeout, 설정하지 않으면 OpenSearch가 느려졌을 때 요청 스레드가 계속 대기
+    @Value("${opensearch.client.connect-timeout-ms:1000}")
+    private int connectTimeoutMillis;
+    @Value("${opensearch.client.socket-timeout-ms:5000}")
+    private int socketTimeoutMillis;
+    @Value("${opensearch.client.connection-request-timeout-ms:500}")
+    private int connectionRequestTimeoutMillis;
+
+    //keep-alive, 서버나 중간 로드밸런서가 먼저 끊은 커넥션을 재사용하지 않도록 idle 커넥션 유지 시간을 제한
+    @Value("${opensearch.client.keep-alive-ms:60000}")
+    private long keepAliveMillis;
+
+    //요청/응답 gzip 압축
+    @Value("${opensearch.client.compression-enabled:true}")
+    private boolean compressionEnabled;
+
+    //응답을 메모리에 버퍼링할 최대 크기
+    @Value("${opensearch.client.response-buffer-limit-mb:50}")
+    private int responseBufferLimitMb;
+
     @Bean
     public RestHighLevelClient openSearchClient() {
         return new RestHighLevelClient(
                 RestClient.builder(HttpHost.create(host))
+                        .setCompressionEnabled(compressionEnabled)
+                        .setRequestConfigCallback(requestConfig -> requestConfig
+                                .setConnectTimeout(connectTimeoutMillis)
+                                .setSocketTimeout(socketTimeoutMillis)
+                                .setConnectionRequestTimeout(connectionRequestTimeoutMillis))
+                        .setHttpClientConfigCallback(httpClient -> httpClient
+                                .setMaxConnTotal(maxConnTotal)
+                                .setMaxConnPerRoute(maxConnPerRoute)
+                                .setKeepAliveStrategy((response, context) -> keepAliveMillis))
         );
     }
+
+    /**
+     * 모든 OpenSearch 요청에 공통으로 사용할 RequestOptions
+     */
+    @Bean
+    public RequestOptions openSearchRequestOptions() {
+        RequestOptions.Builder builder = RequestOptions.DEFAULT.toBuilder();
+        builder.setHttpAsyncResponseConsumerFactory(
+                new HttpAsyncResponseConsumerFactory.HeapBufferedResponseConsumerFactory(responseBufferLimitMb * 1024 * 1024));
+        return builder.build();
+    }
 }
@@ -0,0 +1,13 @@
+package com.example.facticle.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 작업(@Scheduled)을 활성화
+ * ex) 조회 수 버퍼 flush 등
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
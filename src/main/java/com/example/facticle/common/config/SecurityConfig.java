@@ -1,5 +1,6 @@
 package com.example.facticle.common.config;
 
+import com.example.facticle.common.authority.AccessTokenAuthenticationCache;
 import com.example.facticle.common.authority.JwtAuthenticationFilter;
 import com.example.facticle.common.authority.JwtTokenProvider;
 import com.example.facticle.common.dto.BaseResponse;
@@ -37,6 +38,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenAuthenticationCache accessTokenAuthenticationCache;
     private final CustomUserDetailsService customUserDetailsService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -81,9 +83,11 @@ public class SecurityConfig {
                             "/api/news/hate"
                     ).authenticated()
                     .requestMatchers("/api/users/admin/**").hasRole("ADMIN") //어드민 api 요청은 ADMIN 역할만 접근 가능
+                    .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                    .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN") //캐시, 검색 등 내부 메트릭은 ADMIN만 조회
                     .anyRequest().authenticated() //그 외 요청은 모두 인증 필요
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, accessTokenAuthenticationCache), UsernamePasswordAuthenticationFilter.class)
 
             //filter에서 발생하는 예외를 처리
             //우리는 CustomExceptionHandler에서 대부분의 예외를 받아서 처리 => @RestControllerAdvice가 붙어있으면 Controller 수준까지 넘어온 예외를 받아서 처리 가능
@@ -5,7 +5,6 @@ import com.example.facticle.user.entity.User;
 import com.example.facticle.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -39,7 +38,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         //현재는 user의 role이 1개. 단순히 1개만 authorities에 추가
         //추후 role이 늘어나거나 여러 권한을 관리할 경우 추가하는 로직을 추가
-        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        List<GrantedAuthority> authorities = user.getRole().getAuthorities();
 
 
         //CustomUserDetails을 생성해 반환
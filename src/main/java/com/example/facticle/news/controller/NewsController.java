@@ -4,12 +4,12 @@ import com.example.facticle.common.dto.BaseResponse;
 import com.example.facticle.common.dto.CustomUserDetails;
 import com.example.facticle.common.service.DateTimeUtil;
 import com.example.facticle.news.dto.*;
-import com.example.facticle.news.entity.News;
 import com.example.facticle.news.service.NewsService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -55,28 +55,41 @@ public class NewsController {
     }
 
     /**
-     * 개별 뉴스의 댓글 조회
+     * 개별 뉴스의 최상위 댓글 조회(커서 페이징, 작성순 또는 추천순), 답글은 답글 수만 포함
      */
     @GetMapping("/{newsId}/comments")
     @ResponseStatus(HttpStatus.OK)
     public BaseResponse getComments(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
-            @PathVariable Long newsId
+            @PathVariable Long newsId,
+            @RequestParam(defaultValue = "LATEST") CommentSortBy sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ){
         Long userId = (customUserDetails != null) ? customUserDetails.getUserId() : null;
 
-        GetCommentResponseDto responseDto = newsService.getCommentByNews(newsId, userId);
+        GetCommentResponseDto responseDto = newsService.getComments(newsId, userId, sortBy, cursor, size);
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("code", 200);
-        result.put("isUser", responseDto.isUser());
-        result.put("comment", responseDto.getGetCommentDtos());
+        return BaseResponse.success(toCommentResult(responseDto, userId), "comments retrieved successfully.");
+    }
 
-        if(userId != null){
-            result.put("commentInteraction", responseDto.getGetCommentInteractionDtos());
-        }
+    /**
+     * 댓글의 답글 조회(커서 페이징)
+     */
+    @GetMapping("/{newsId}/comments/{commentId}/replies")
+    @ResponseStatus(HttpStatus.OK)
+    public BaseResponse getReplies(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable Long newsId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        Long userId = (customUserDetails != null) ? customUserDetails.getUserId() : null;
+
+        GetCommentResponseDto responseDto = newsService.getReplies(newsId, commentId, userId, cursor, size);
 
-        return BaseResponse.success(result, "comments retrieved successfully.");
+        return BaseResponse.success(toCommentResult(responseDto, userId), "replies retrieved successfully.");
     }
 
     /**
@@ -98,6 +111,9 @@ public class NewsController {
         if (condition.getSize() == null) {
             condition.setSize(10);
         }
+        if (condition.getPagingMode() == null) {
+            condition.setPagingMode(PagingMode.OFFSET);
+        }
 
         log.info("NewsSearchCondition {}", condition);
 
@@ -109,14 +125,22 @@ public class NewsController {
             condition.setEndDate(DateTimeUtil.convertKSTToUTC(condition.getEndDate()));
         }
 
-        List<News> newsList =  newsService.getNewsList(condition);
+        if (condition.getPagingMode() == PagingMode.CURSOR) {
+            NewsCursorSlice newsCursorSlice = newsService.getNewsListByCursor(condition);
+
+            //마지막 페이지라면 nextCursor가 null이므로 Map.of 대신 HashMap 사용
+            Map<String, Object> result = new HashMap<>();
+            result.put("code", 200);
+            result.put("newsList", newsCursorSlice.getNewsList());
+            result.put("nextCursor", newsCursorSlice.getNextCursor());
 
-        List<NewsListResponseDto> newsListResponseDtos =
-                newsList.stream()
-                        .map(NewsListResponseDto::from)
-                        .toList();
+            return BaseResponse.success(result, "Search results retrieved successfully.");
+        }
+
+        //목록 컬럼만 DTO로 바로 조회(NewsRepositoryCustomImpl 참고)
+        Page<NewsListResponseDto> newsPage =  newsService.getNewsList(condition);
 
-        return BaseResponse.success(Map.of("code", 200, "totalCount", newsListResponseDtos.size(), "newsList", newsListResponseDtos), "Search results retrieved successfully.");
+        return BaseResponse.success(Map.of("code", 200, "totalCount", newsPage.getTotalElements(), "newsList", newsPage.getContent()), "Search results retrieved successfully.");
     }
 
     @PostMapping("/{newsId}/like")
@@ -281,4 +305,17 @@ public class NewsController {
 
         return BaseResponse.success(Map.of("code", 200), "rate canceled successfully.");
     }
+
+    private Map<String, Object> toCommentResult(GetCommentResponseDto responseDto, Long userId) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("code", 200);
+        result.put("isUser", responseDto.isUser());
+        result.put("comment", responseDto.getGetCommentDtos());
+        result.put("nextCursor", responseDto.getNextCursor());
+
+        if(userId != null){
+            result.put("commentInteraction", responseDto.getGetCommentInteractionDtos());
+        }
+        return result;
+    }
 }
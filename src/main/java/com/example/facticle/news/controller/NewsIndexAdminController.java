@@ -0,0 +1,54 @@
+package com.example.facticle.news.controller;
+
+import com.example.facticle.common.dto.BaseResponse;
+import com.example.facticle.news.search.NewsIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OpenSearch 색인 관리 api(ADMIN 권한 필요)
+ */
+@Slf4j
+@RestController
+@Profile("!local & !test")
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/news/index")
+public class NewsIndexAdminController {
+
+    private final NewsIndexer newsIndexer;
+
+    /**
+     * 전체 재색인 시작, 새 인덱스에 모두 색인한 뒤 news_index alias를 교체(무중단)
+     * 오래 걸리므로 백그라운드에서 실행하고 바로 응답
+     */
+    @PostMapping("/reindex")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BaseResponse reindex() {
+        String newIndex = newsIndexer.startReindex();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("code", 202);
+        result.put("index", newIndex);
+
+        return BaseResponse.success(result, "reindex started.");
+    }
+
+    /**
+     * 재색인 진행 여부 조회
+     */
+    @GetMapping("/reindex")
+    @ResponseStatus(HttpStatus.OK)
+    public BaseResponse getReindexStatus() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("code", 200);
+        result.put("reindexing", newsIndexer.isReindexing());
+
+        return BaseResponse.success(result, "reindex status retrieved successfully.");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.facticle.news.dto;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 댓글 커서(keyset) 페이징에 사용하는 커서
+ * 마지막으로 조회한 댓글의 정렬 키(LATEST: createdAt, TOP: bestScore)와 commentId를 담고, 클라이언트에는 Base64로 인코딩된 불투명한 문자열로 전달
+ * 정렬 기준이 바뀌면 커서를 재사용할 수 없으므로 sortBy도 함께 담아서 검증
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+    private static final String DELIMITER = "|";
+
+    private CommentSortBy sortBy;
+    private String lastSortKey;
+    private Long lastCommentId;
+
+    public static CommentCursor latest(LocalDateTime lastCreatedAt, Long lastCommentId) {
+        return new CommentCursor(CommentSortBy.LATEST, lastCreatedAt.toString(), lastCommentId);
+    }
+
+    public static CommentCursor top(double lastBestScore, Long lastCommentId) {
+        return new CommentCursor(CommentSortBy.TOP, Double.toString(lastBestScore), lastCommentId);
+    }
+
+    public LocalDateTime getLastCreatedAt() {
+        return LocalDateTime.parse(lastSortKey);
+    }
+
+    public double getLastBestScore() {
+        return Double.parseDouble(lastSortKey);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortBy.name(), lastSortKey, String.valueOf(lastCommentId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * cursor가 없다면(첫 페이지) null
+     */
+    public static CommentCursor decode(String cursor, CommentSortBy sortBy) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor format");
+            }
+
+            CommentCursor decoded = new CommentCursor(CommentSortBy.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+            if (decoded.getSortBy() != sortBy) {
+                throw new InvalidInputException("invalid input", Map.of("cursor", "cursor does not match sortBy"));
+            }
+            //정렬 키 형식 검증
+            if (sortBy == CommentSortBy.TOP) {
+                decoded.getLastBestScore();
+            } else {
+                decoded.getLastCreatedAt();
+            }
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) { //Base64, enum, 날짜, 숫자 파싱 실패
+            throw new InvalidInputException("invalid input", Map.of("cursor", "invalid cursor"));
+        }
+    }
+}
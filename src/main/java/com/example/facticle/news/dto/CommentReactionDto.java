@@ -0,0 +1,19 @@
+package com.example.facticle.news.dto;
+
+import com.example.facticle.news.entity.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회 시 유저의 댓글 반응만 가볍게 조회한 결과(CommentInteraction 엔티티, User, Comment를 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentReactionDto {
+    private Long commentInteractionId;
+    private Long commentId;
+    private ReactionType reaction;
+    private LocalDateTime reactionAt;
+}
@@ -0,0 +1,9 @@
+package com.example.facticle.news.dto;
+
+/**
+ * 최상위 댓글 정렬 기준
+ * LATEST: 작성 순서(오래된 순), TOP: 추천 점수(Comment.bestScore) 높은 순
+ */
+public enum CommentSortBy {
+    LATEST, TOP
+}
@@ -5,8 +5,6 @@ import com.example.facticle.news.entity.Comment;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -26,10 +24,12 @@ public class GetCommentDto {
     private LocalDateTime updatedAt;
 
     private Long parentCommentId;
-    private List<GetCommentDto> replies;
+    private int depth;
+
+    //답글은 함께 내려주지 않고 답글 수만 내려줌, 답글은 별도 api로 페이징 조회
+    //Comment에 비정규화된 replyCount를 사용하므로 답글을 조회하거나 따로 집계하지 않음
+    private long replyCount;
 
-    //from에서 replies를 직접 comment 파라미터의 replies를 stream으로 가져와 설정하게 되면, lazy로딩으로 인해 1+N 문제가 발생함
-    //따라서 replies는 comment 파라미터에서 바로 가져오는 것이 아니라 buildCommentDtoTree 메서드를 활용해 수동으로 replies를 설정하도록 구현
     public static GetCommentDto from(Comment comment){
         return GetCommentDto.builder()
                 .commentId(comment.getCommentId())
@@ -43,11 +43,8 @@ public class GetCommentDto {
                 .createdAt(DateTimeUtil.convertUTCToKST(comment.getCreatedAt()))
                 .updatedAt(DateTimeUtil.convertUTCToKST(comment.getUpdatedAt()))
                 .parentCommentId((comment.getParentComment() != null) ? comment.getParentComment().getCommentId() : null)
-                .replies(new ArrayList<>())
+                .depth(comment.getDepth())
+                .replyCount(comment.getReplyCount())
                 .build();
     }
-
-    public void updateReplies(List<GetCommentDto> replies) {
-        this.replies = replies;
-    }
 }
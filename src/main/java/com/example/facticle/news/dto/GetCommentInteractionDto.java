@@ -28,4 +28,14 @@ public class GetCommentInteractionDto {
                 .build();
     }
 
+    public static GetCommentInteractionDto from(Long userId, CommentReactionDto commentReactionDto){
+        return GetCommentInteractionDto.builder()
+                .commentInteractionId(commentReactionDto.getCommentInteractionId())
+                .userId(userId)
+                .commentId(commentReactionDto.getCommentId())
+                .reaction(commentReactionDto.getReaction())
+                .reactionAt(DateTimeUtil.convertUTCToKST(commentReactionDto.getReactionAt()))
+                .build();
+    }
+
 }
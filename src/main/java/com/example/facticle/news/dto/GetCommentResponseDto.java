@@ -12,4 +12,5 @@ public class GetCommentResponseDto {
     private boolean isUser;
     private List<GetCommentDto> getCommentDtos;
     private List<GetCommentInteractionDto> getCommentInteractionDtos;
+    private String nextCursor; //다음 페이지가 없다면 null
 }
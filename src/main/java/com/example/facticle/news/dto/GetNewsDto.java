@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class GetNewsDto {
     private Long newsId;
     private String url;
@@ -58,4 +58,21 @@ public class GetNewsDto {
                 .rating(news.getAverageRating())
                 .build();
     }
+
+    //캐시된 불변 정보에 최신 카운터 값을 덮어쓴 새로운 객체를 반환(NewsDetailCache 참고)
+    public GetNewsDto withCounters(NewsCounterDto newsCounterDto) {
+        return this.toBuilder()
+                .likeCount(newsCounterDto.getLikeCount())
+                .hateCount(newsCounterDto.getHateCount())
+                .commentCount(newsCounterDto.getCommentCount())
+                .viewCount(newsCounterDto.getViewCount())
+                .ratingCount(newsCounterDto.getRatingCount())
+                .rating(newsCounterDto.getAverageRating())
+                .build();
+    }
+
+    //ViewCountBuffer에 쌓여있는(아직 DB에 반영되지 않은) 조회 수를 더함
+    public void addPendingViewCount(long pendingViewCount) {
+        this.viewCount += (int) pendingViewCount;
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.facticle.news.dto;
+
+import com.example.facticle.news.entity.NewsInteraction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 뉴스 상세 캐시(NewsDetailCache) hit 시 사용하는 가벼운 조회 결과
+ * 자주 바뀌는 카운터 값과 유저의 NewsInteraction만 담음(유저가 없거나 상호작용한 적이 없다면 newsInteraction은 null)
+ */
+@Getter
+@AllArgsConstructor
+public class NewsCounterDto {
+    private int likeCount;
+    private int hateCount;
+    private int commentCount;
+    private int viewCount;
+    private int ratingCount;
+    private BigDecimal averageRating;
+    private NewsInteraction newsInteraction;
+
+    //News.getAverageRating과 같이 소수점 첫째 자리까지만 노출
+    public BigDecimal getAverageRating() {
+        return averageRating.setScale(1, RoundingMode.HALF_UP);
+    }
+}
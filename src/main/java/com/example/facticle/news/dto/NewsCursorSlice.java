@@ -0,0 +1,16 @@
+package com.example.facticle.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 조회 결과, 다음 페이지가 없다면 nextCursor는 null
+ */
+@Getter
+@AllArgsConstructor
+public class NewsCursorSlice {
+    private List<NewsListResponseDto> newsList;
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.example.facticle.news.dto;
+
+import com.example.facticle.news.entity.NewsCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OpenSearch(news_index)에 색인할 뉴스 데이터
+ * 카운터만 갱신하는 경우(NewsIndexRepository.findCounterDocuments) 본문 등 카운터 외의 값은 null
+ */
+@Getter
+@AllArgsConstructor
+public class NewsDocumentDto {
+    private Long newsId;
+    private String title;
+    private String content;
+    private NewsCategory category;
+    private String mediaName;
+    private LocalDateTime collectedAt;
+    private BigDecimal headlineScore;
+    private BigDecimal factScore;
+    private int likeCount;
+    private int hateCount;
+    private int commentCount;
+    private int viewCount;
+    private int ratingCount;
+    private BigDecimal averageRating;
+}
@@ -14,7 +14,7 @@ import java.util.List;
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @ToString
 public class NewsSearchCondition {
     private List<String> titleKeyword; // 제목 키워드
@@ -63,6 +63,11 @@ public class NewsSearchCondition {
     @Builder.Default
     private Integer size = 10; // 기본값 10
 
+    //OFFSET: page 기반 페이징(기존 방식), CURSOR: 이전 응답의 nextCursor 기반 페이징(page는 무시)
+    @Builder.Default
+    private PagingMode pagingMode = PagingMode.OFFSET;
+    private String cursor; // 첫 페이지라면 null
+
     @AssertTrue(message = "Start date cannot be after end date")
     private boolean isDateRangeValid() {
         return startDate == null || endDate == null || !startDate.isAfter(endDate);
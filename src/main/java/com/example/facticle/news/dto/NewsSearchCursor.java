@@ -0,0 +1,50 @@
+package com.example.facticle.news.dto;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 뉴스 검색 커서(keyset) 페이징에 사용하는 커서
+ * 마지막으로 조회한 뉴스의 정렬 키 값과 newsId를 담고, 클라이언트에는 Base64로 인코딩된 불투명한 문자열로 전달
+ * 정렬 기준이 바뀌면 커서를 재사용할 수 없으므로 sortBy, sortDirection도 함께 담아서 검증
+ */
+@Getter
+@AllArgsConstructor
+public class NewsSearchCursor {
+    private static final String DELIMITER = "|";
+
+    private SortBy sortBy;
+    private SortDirection sortDirection;
+    private String lastSortKey;
+    private Long lastNewsId;
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortBy.name(), sortDirection.name(), lastSortKey, String.valueOf(lastNewsId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NewsSearchCursor decode(String cursor, SortBy sortBy, SortDirection sortDirection) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("invalid cursor format");
+            }
+
+            NewsSearchCursor decoded = new NewsSearchCursor(
+                    SortBy.valueOf(parts[0]), SortDirection.valueOf(parts[1]), parts[2], Long.parseLong(parts[3]));
+
+            if (decoded.getSortBy() != sortBy || decoded.getSortDirection() != sortDirection) {
+                throw new InvalidInputException("invalid input", Map.of("cursor", "cursor does not match sortBy or sortDirection"));
+            }
+            return decoded;
+        } catch (IllegalArgumentException e) { //Base64, enum, 숫자 파싱 실패
+            throw new InvalidInputException("invalid input", Map.of("cursor", "invalid cursor"));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.facticle.news.dto;
+
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsInteraction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 뉴스와 해당 뉴스에 대한 유저의 NewsInteraction을 한 번의 쿼리로 조회한 결과
+ * newsInteraction은 유저가 해당 뉴스와 상호작용한 적이 없다면 null
+ */
+@Getter
+@AllArgsConstructor
+public class NewsWithInteractionDto {
+    private News news;
+    private NewsInteraction newsInteraction;
+}
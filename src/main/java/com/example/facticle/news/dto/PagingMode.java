@@ -0,0 +1,19 @@
+package com.example.facticle.news.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum PagingMode {
+    OFFSET("offset"),
+    CURSOR("cursor");
+
+    private final String value;
+
+    PagingMode(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+}
@@ -18,11 +18,16 @@ import java.util.List;
 @ToString(of = {"commentId", "content", "likeCount", "hateCount", "createdAt", "updatedAt"})
 @Table(name = "comments",
     indexes = {
-        @Index(name = "idx_comments_news_id", columnList = "news_id"),
-        @Index(name = "idx_comments_user_id", columnList = "user_id")
+        @Index(name = "idx_comments_news_parent_created_at", columnList = "news_id, parent_comment_id, createdAt"), //최상위 댓글, 답글 페이징
+        @Index(name = "idx_comments_news_parent_best_score", columnList = "news_id, parent_comment_id, bestScore"), //추천순 페이징
+        @Index(name = "idx_comments_user_id", columnList = "user_id"),
+        @Index(name = "idx_comments_path", columnList = "path") //하위 댓글 전체(subtree) 조회
     }
 )
 public class Comment {
+    //답글의 최대 depth, path(VARCHAR 255)에 long commentId(최대 19자리) + 구분자가 depth + 1개 들어가도 넘치지 않도록 제한
+    public static final int MAX_DEPTH = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long commentId;
@@ -46,6 +51,26 @@ public class Comment {
     @Builder.Default
     private int hateCount = 0;
 
+    //추천순 정렬에 인덱스를 사용할 수 있도록 좋아요/싫어요로 계산한 점수를 컬럼으로 저장
+    //좋아요, 싫어요 수와 함께 CommentRepository.applyReactionDelta에서 원자적으로 다시 계산
+    @Column(nullable = false)
+    @Builder.Default
+    private double bestScore = 0.0;
+
+    //직접 달린 답글 수, 답글 작성/삭제 시 UPDATE로 원자적으로 증감
+    @Column(nullable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
+    //최상위 댓글은 0, 답글은 부모 댓글의 depth + 1
+    @Column(nullable = false)
+    @Builder.Default
+    private int depth = 0;
+
+    //최상위 댓글부터 자신까지의 commentId 경로(/1/5/12/), path로 시작하는 댓글이 자신을 포함한 하위 댓글 전체
+    //commentId가 저장 후에 생기므로 저장 직후 initPath로 설정
+    @Column(length = 255)
+    private String path;
 
     @CreationTimestamp
     @Column(columnDefinition = "TIMESTAMP", nullable = false)
@@ -69,6 +94,14 @@ public class Comment {
     public void addReplies(Comment comment){
         replies.add(comment);
         comment.parentComment = this;
+        comment.depth = this.depth + 1;
+    }
+
+    /**
+     * 저장되어 commentId가 생긴 후 호출, 부모 댓글의 path 뒤에 자신의 commentId를 붙임
+     */
+    public void initPath(){
+        this.path = ((parentComment != null) ? parentComment.getPath() : "/") + commentId + "/";
     }
 
     @JsonIgnore
@@ -100,19 +133,19 @@ public class Comment {
         this.parentComment = comment;
     } //사용 x
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        this.likeCount--;
-    }
-
-    public void increaseHateCount() {
-        this.hateCount++;
-    }
-
-    public void decreaseHateCount() {
-        this.hateCount--;
+    /**
+     * 좋아요 비율의 Wilson score 신뢰구간 하한(95%)
+     * 반응 수가 적은 댓글의 높은 비율(1/1 = 100%)보다 반응이 많고 비율도 높은 댓글(95/100)이 위로 오도록 함
+     * 좋아요가 없다면 0(부동소수점 오차로 0 근처의 값이 나오지 않도록 바로 반환)
+     * 저장되는 점수는 CommentRepository.applyReactionDelta의 SQL로 계산하고, 이 메서드는 그 SQL이 따르는 기준 식(테스트 데이터 생성, 검증용)
+     */
+    public static double wilsonScore(int likeCount, int hateCount) {
+        int n = likeCount + hateCount;
+        if (likeCount <= 0 || n <= 0) {
+            return 0.0;
+        }
+        double z = 1.96;
+        double p = (double) likeCount / n;
+        return (p + z * z / (2 * n) - z * Math.sqrt((p * (1 - p) + z * z / (4 * n)) / n)) / (1 + z * z / n);
     }
 }
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 @ToString(of = {"commentInteractionId", "reaction", "reactionAt"})
 @Table(name = "comment_interactions",
         indexes = {
-                @Index(name = "idx_comment_interactions_user_id", columnList = "user_id"),
+                @Index(name = "idx_comment_interactions_user_comment", columnList = "user_id, comment_id"), //유저의 뉴스 댓글 반응 조회
                 @Index(name = "idx_comment_interactions_comment_id", columnList = "comment_id")
         },
         uniqueConstraints = {
@@ -24,7 +24,9 @@ import java.util.List;
                 @Index(name = "idx_headline_score", columnList = "headlineScore"),
                 @Index(name = "idx_fact_score", columnList = "factScore"),
                 @Index(name = "idx_collected_at", columnList = "collectedAt"),
-                @Index(name = "idx_media_name", columnList = "mediaName")
+                @Index(name = "idx_media_name", columnList = "mediaName"),
+                @Index(name = "idx_average_rating", columnList = "averageRating"),
+                @Index(name = "idx_category_average_rating", columnList = "category, averageRating")
         },
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = "url")
@@ -90,6 +92,11 @@ public class News {
     @Builder.Default
     private BigDecimal totalRatingSum = BigDecimal.valueOf(0.0);
 
+    //평점 정렬, 필터에 인덱스를 사용할 수 있도록 totalRatingSum / ratingCount를 컬럼으로 저장, 평점 수나 합계를 반영할 때(NewsRepository.applyRatingDelta) 함께 다시 계산
+    @Column(nullable = false, precision = 3, scale = 2)
+    @Builder.Default
+    private BigDecimal averageRating = BigDecimal.valueOf(0.0);
+
     @JsonIgnore
     @OneToOne(mappedBy = "news", cascade = CascadeType.ALL, orphanRemoval = true)
     private NewsContent newsContent;
@@ -114,48 +121,18 @@ public class News {
     @OneToMany(mappedBy = "news", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        this.commentCount--;
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        this.likeCount--;
-    }
-
-    public void increaseHateCount() {
-        this.hateCount++;
-    }
+    //좋아요, 싫어요, 댓글, 평점 카운터는 엔티티 필드를 변경하지 않고 NewsRepository의 apply*Delta로 원자적으로 반영
+    //(엔티티에서 증감하면 dirty checking이 모든 컬럼을 UPDATE하므로 동시 요청의 증감분이 유실됨)
 
-    public void decreaseHateCount() {
-        this.hateCount--;
-    }
-
-    public void increaseRatingCount() {
-        this.ratingCount++;
-    }
-
-    public void decreaseRatingCount() {
-        this.ratingCount--;
-    }
-
-    public void increaseRating(BigDecimal rating){
-        this.totalRatingSum =  this.totalRatingSum.add(rating);
-    }
-
-    public void decreaseRating(BigDecimal rating){
-        this.totalRatingSum =  this.totalRatingSum.subtract(rating);
+    //응답에는 기존과 같이 소수점 첫째 자리까지만 노출
+    public BigDecimal getAverageRating() {
+        return averageRating.setScale(1, RoundingMode.HALF_UP);
     }
 
-    public BigDecimal getAverageRating() {
-        return ratingCount == 0 ? BigDecimal.ZERO :
-                totalRatingSum.divide(BigDecimal.valueOf(ratingCount), 1, RoundingMode.HALF_UP);
+    //builder로 평점 수, 합계를 직접 지정한 경우에도 averageRating이 맞도록 저장 전에 계산
+    @PrePersist
+    private void updateAverageRating() {
+        this.averageRating = ratingCount == 0 ? BigDecimal.ZERO.setScale(2) :
+                totalRatingSum.divide(BigDecimal.valueOf(ratingCount), 2, RoundingMode.HALF_UP);
     }
 }
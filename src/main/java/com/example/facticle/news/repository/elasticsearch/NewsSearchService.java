@@ -1,77 +1,158 @@
 package com.example.facticle.news.search;
 
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.dto.NewsSearchCursor;
+import com.example.facticle.news.dto.PagingMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.Cancellable;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
-import org.opensearch.index.query.BoolQueryBuilder;
-import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.Arrays;
 
+/**
+ * OpenSearch 기반 키워드 검색, OpenSearch를 사용하는 프로필에서만 등록
+ * 요청 경로에서는 GuardedNewsKeywordSearch가 NewsSearchGuard로 감싸서 search(pushdown)만 호출(NewsKeywordSearch 참고)
+ */
 @Slf4j
 @Service
+@Profile("!local & !test")
 @RequiredArgsConstructor
 public class NewsSearchService {
 
-    private final RestHighLevelClient openSearchClient;
-
-    public List<Long> searchByTitle(List<String> keywords) {
-        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
-
-        keywords.forEach(k ->
-                boolQuery.must(QueryBuilders.matchPhraseQuery("title", k))
-        );
+    private static final String NEWS_INDEX = "news_index";
 
-        return executeSearch(boolQuery);
+    private final RestHighLevelClient openSearchClient;
+    private final RequestOptions openSearchRequestOptions;
+    private final MeterRegistry meterRegistry;
+    private final NewsSearchResultCache newsSearchResultCache;
+
+    //쿼리 하나당 OpenSearch에서 검색에 사용할 최대 시간, 초과하면 일부 결과를 사용(캐시)하지 않고 실패로 처리
+    @Value("${opensearch.search.timeout-ms:2000}")
+    private long searchTimeoutMillis;
+
+    /**
+     * 필터, 정렬, 페이징까지 OpenSearch에서 처리하고 해당 페이지의 뉴스 id만 순서대로 반환(NewsSearchQueryBuilder 참고)
+     * 같은 검색 조건의 반복 검색은 NewsSearchResultCache에서 처리
+     * OpenSearch로 처리할 수 없는 조건이라면 null
+     * 이어지는 MySQL 조회가 블로킹이므로 searchAsync의 결과를 기다림, 실패는 NewsSearchGuard가 집계하도록 원래 예외로 던짐
+     */
+    public NewsSearchResult search(NewsSearchCondition condition) {
+        try {
+            return searchAsync(condition).join();
+        } catch (CompletionException e) {
+            throw (e.getCause() instanceof RuntimeException cause) ? cause : e;
+        }
     }
 
-    public List<Long> searchByContent(List<String> keywords) {
-        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
-
-        keywords.forEach(k ->
-                boolQuery.must(QueryBuilders.matchPhraseQuery("content", k))
-        );
-
-        return executeSearch(boolQuery);
+    /**
+     * search의 비동기 버전, OpenSearch 응답을 기다리는 동안 스레드를 점유하지 않음
+     * 같은 검색 조건의 동시 요청은 진행 중인 HTTP 요청 하나를 함께 기다리고, 처리할 수 없는 조건이라면 null로 완료
+     * 콜백은 OpenSearch 클라이언트의 I/O 스레드에서 실행되므로, DB 조회처럼 블로킹되는 후속 작업은 thenApplyAsync 등으로 별도 executor에서 실행해야 함
+     */
+    public CompletableFuture<NewsSearchResult> searchAsync(NewsSearchCondition condition) {
+        if (!NewsSearchQueryBuilder.supports(condition)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        //커서 디코딩 등 입력 오류는 요청 전에 바로 발생
+        return newsSearchResultCache.get(condition, normalized ->
+                executeAsync(new SearchRequest(NEWS_INDEX).source(NewsSearchQueryBuilder.build(normalized)), "pushdown")
+                        .thenApply(response -> toNewsSearchResult(normalized, response)));
     }
 
-    public List<Long> searchByTitleOrContent(List<String> keywords) {
-        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+    private NewsSearchResult toNewsSearchResult(NewsSearchCondition condition, SearchResponse response) {
+        SearchHit[] hits = response.getHits().getHits();
 
-        keywords.forEach(k ->
-                boolQuery.should(QueryBuilders.matchPhraseQuery("title", k))
-                        .should(QueryBuilders.matchPhraseQuery("content", k))
-        );
+        if (condition.getPagingMode() != PagingMode.CURSOR) {
+            long totalHits = (response.getHits().getTotalHits() != null) ? response.getHits().getTotalHits().value : hits.length;
+            return new NewsSearchResult(toNewsIds(hits), totalHits, null);
+        }
 
-        return executeSearch(boolQuery);
-    }
+        //size + 1개를 조회했으므로 초과분이 있다면 다음 페이지가 존재
+        boolean hasNext = hits.length > condition.getSize();
+        if (hasNext) {
+            hits = Arrays.copyOf(hits, condition.getSize());
+        }
 
-    private List<Long> executeSearch(BoolQueryBuilder query) {
-        try {
-            SearchRequest request = new SearchRequest("news_index");
-            request.source().query(query);
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] sortValues = hits[hits.length - 1].getSortValues();
+            nextCursor = new NewsSearchCursor(condition.getSortBy(), condition.getSortDirection(),
+                    String.valueOf(sortValues[0]), ((Number) sortValues[1]).longValue()).encode();
+        }
+        return new NewsSearchResult(toNewsIds(hits), -1, nextCursor);
+    }
 
-            SearchResponse response =
-                    openSearchClient.search(request, RequestOptions.DEFAULT);
+    private List<Long> toNewsIds(SearchHit[] hits) {
+        return Arrays.stream(hits)
+                .map(hit -> convertToLong(hit.getId()))
+                .filter(id -> id != null)
+                .collect(Collectors.toList());
+    }
 
-            return Arrays.stream(response.getHits().getHits())
-                    .map(hit -> convertToLong(hit.getId()))
-                    .filter(id -> id != null)
-                    .collect(Collectors.toList());
+    /**
+     * 모든 검색 요청의 공통 처리
+     * 검색 종류(type)별로 응답 시간 히스토그램(opensearch.search)을 기록하고, 쿼리별 timeout을 적용
+     */
+    private CompletableFuture<SearchResponse> executeAsync(SearchRequest request, String type) {
+        request.source().timeout(TimeValue.timeValueMillis(searchTimeoutMillis));
+
+        CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Cancellable cancellable = openSearchClient.searchAsync(request, openSearchRequestOptions, new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse response) {
+                //시간 초과된 응답은 그때까지 찾은 일부 결과만 담고 있으므로, 결과 캐시에 저장되지 않고 NewsSearchGuard가 fallback으로 처리하도록 실패로 처리
+                if (response.isTimedOut()) {
+                    sample.stop(searchTimer(type, "timeout"));
+                    future.completeExceptionally(new RuntimeException("OpenSearch 검색 시간 초과 type=" + type + ", timeout=" + searchTimeoutMillis + "ms"));
+                    return;
+                }
+                sample.stop(searchTimer(type, "success"));
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                sample.stop(searchTimer(type, "error"));
+                future.completeExceptionally(new RuntimeException("OpenSearch 검색 실패", e));
+            }
+        });
+
+        //호출한 쪽에서 future를 취소하면 진행 중인 HTTP 요청도 취소
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                cancellable.cancel();
+            }
+        });
+        return future;
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException("OpenSearch 검색 실패", e);
-        }
+    private Timer searchTimer(String type, String outcome) {
+        return Timer.builder("opensearch.search")
+                .description("OpenSearch 뉴스 검색 응답 시간")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
-    
     private Long convertToLong(String newsId) {
         try {
             return newsId != null ? Long.parseLong(newsId) : null;
@@ -1,5 +1,6 @@
 package com.example.facticle.news.repository.jpa;
 
+import com.example.facticle.news.dto.CommentReactionDto;
 import com.example.facticle.news.entity.Comment;
 import com.example.facticle.news.entity.CommentInteraction;
 import com.example.facticle.user.entity.User;
@@ -7,13 +8,22 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CommentInteractionRepository extends JpaRepository<CommentInteraction, Long> {
-    @Query("SELECT ci FROM CommentInteraction ci WHERE ci.user = :user AND ci.comment IN :comments")
-    List<CommentInteraction> findAllByUserAndComments(User user, List<Comment> comments);
+    /**
+     * 유저가 현재 페이지의 댓글에 남긴 반응(LIKE, HATE)을 (commentId, reaction) 위주의 projection으로 조회
+     * 댓글 id는 한 페이지(최대 100개)만 IN 절로 넘기므로, 유저가 뉴스의 다른 댓글에 남긴 반응은 읽지 않음
+     * (user_id, comment_id) 인덱스의 범위 조회로 처리되고 comments와 조인하지 않음
+     * news_id 하나로 comments와 조인하는 방식은 유저가 뉴스에 남긴 반응 전체를 읽으므로 사용하지 않음
+     */
+    @Query("SELECT new com.example.facticle.news.dto.CommentReactionDto(ci.commentInteractionId, ci.comment.commentId, ci.reaction, ci.reactionAt) " +
+            "FROM CommentInteraction ci " +
+            "WHERE ci.user.userId = :userId AND ci.comment.commentId IN :commentIds AND ci.reaction IS NOT NULL")
+    List<CommentReactionDto> findReactionsByUserAndComments(Long userId, Collection<Long> commentIds);
 
     Optional<CommentInteraction> findByUserAndComment(User user, Comment comment);
 
@@ -1,24 +1,42 @@
 package com.example.facticle.news.repository.jpa;
 
 import com.example.facticle.news.entity.Comment;
-import com.example.facticle.news.entity.News;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    /**
+     * 답글 수를 증감량만큼 원자적으로 반영
+     * 같은 댓글에 동시에 답글이 달려도 lost update가 발생하지 않도록 DB에서 직접 계산
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.commentId = :commentId")
+    int applyReplyCountDelta(Long commentId, int delta);
 
-    @Query("""
-    SELECT c FROM Comment c
-    JOIN FETCH c.user
-    LEFT JOIN FETCH c.parentComment
-    WHERE c.news = :news
-    ORDER BY c.createdAt ASC
-    """)
-    List<Comment> findAllByNewsWithUser(News news);
+    /**
+     * 좋아요, 싫어요 수를 증감량만큼 원자적으로 반영하고 추천 점수(bestScore)를 다시 계산
+     * 엔티티를 변경해서 dirty checking으로 저장하면 모든 컬럼을 덮어쓰므로, 동시에 반영된 replyCount나 다른 반응이 유실될 수 있음
+     * bestScore는 Comment.wilsonScore와 같은 식(분모, 분자에 반응 수를 곱해서 정리, z = 1.96)이고, MySQL은 SET 절을 왼쪽부터 반영하므로 먼저 계산
+     * DECIMAL 나눗셈은 소수점 4자리까지만 계산하므로(div_precision_increment) 나눗셈은 SQRT(DOUBLE) 결과끼리만 하도록 정리
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET " +
+            "c.bestScore = CASE WHEN (c.likeCount + :likeDelta) <= 0 THEN 0.0 " +
+            "ELSE ((c.likeCount + :likeDelta) + 1.9208 " +
+            "- 1.96 * SQRT((c.likeCount + :likeDelta) * (c.hateCount + :hateDelta) + 0.9604 * (c.likeCount + :likeDelta + c.hateCount + :hateDelta)) " +
+            "/ SQRT(c.likeCount + :likeDelta + c.hateCount + :hateDelta)) " +
+            "/ (c.likeCount + :likeDelta + c.hateCount + :hateDelta + 3.8416) END, " +
+            "c.likeCount = c.likeCount + :likeDelta, " +
+            "c.hateCount = c.hateCount + :hateDelta " +
+            "WHERE c.commentId = :commentId")
+    int applyReactionDelta(Long commentId, int likeDelta, int hateDelta);
 
+    /**
+     * path로 시작하는 댓글 수(자신 + 모든 하위 답글), 댓글 삭제 시 함께 삭제되는 댓글 수
+     */
+    long countByPathStartingWith(String path);
 }
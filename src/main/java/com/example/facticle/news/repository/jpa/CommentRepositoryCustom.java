@@ -0,0 +1,14 @@
+package com.example.facticle.news.repository.jpa;
+
+import com.example.facticle.news.dto.CommentCursor;
+import com.example.facticle.news.dto.CommentSortBy;
+import com.example.facticle.news.entity.Comment;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    List<Comment> findRootComments(Long newsId, CommentSortBy sortBy, CommentCursor cursor, int limit);
+
+    List<Comment> findReplies(Long newsId, Long parentCommentId, CommentCursor cursor, int limit);
+
+}
@@ -0,0 +1,82 @@
+package com.example.facticle.news.repository.jpa;
+
+import com.example.facticle.news.dto.CommentCursor;
+import com.example.facticle.news.dto.CommentSortBy;
+import com.example.facticle.news.entity.Comment;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.example.facticle.news.entity.QComment.comment;
+import static com.example.facticle.user.entity.QUser.user;
+
+/**
+ * 댓글 커서 페이징 조회
+ * - 작성 순서: (news_id, parent_comment_id, created_at) 인덱스로 뉴스의 최상위 댓글/특정 댓글의 답글을 조회
+ * - 추천순: (news_id, parent_comment_id, best_score) 인덱스를 역순으로 읽어서 상위 댓글을 정렬 없이 조회
+ * comment_id는 인덱스에 포함된 PK이므로 같은 정렬 키 안에서의 순서(tiebreaker)도 인덱스 순서와 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 뉴스의 최상위 댓글을 커서 이후부터 최대 limit개 조회
+     * LATEST: (createdAt, commentId) 오름차순, TOP: (bestScore, commentId) 내림차순
+     */
+    @Override
+    public List<Comment> findRootComments(Long newsId, CommentSortBy sortBy, CommentCursor cursor, int limit) {
+        JPAQuery<Comment> query = jpaQueryFactory
+                .selectFrom(comment)
+                .join(comment.user, user).fetchJoin()
+                .where(comment.news.newsId.eq(newsId),
+                        comment.parentComment.isNull());
+
+        if (sortBy == CommentSortBy.TOP) {
+            query.where(belowScore(cursor))
+                    .orderBy(comment.bestScore.desc(), comment.commentId.desc());
+        } else {
+            query.where(after(cursor))
+                    .orderBy(comment.createdAt.asc(), comment.commentId.asc());
+        }
+        return query.limit(limit).fetch();
+    }
+
+    /**
+     * 댓글의 답글을 (createdAt, commentId) 오름차순으로 커서 이후부터 최대 limit개 조회
+     */
+    @Override
+    public List<Comment> findReplies(Long newsId, Long parentCommentId, CommentCursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(comment)
+                .join(comment.user, user).fetchJoin()
+                .where(comment.news.newsId.eq(newsId),
+                        comment.parentComment.commentId.eq(parentCommentId),
+                        after(cursor))
+                .orderBy(comment.createdAt.asc(), comment.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression belowScore(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        double lastBestScore = cursor.getLastBestScore();
+        return comment.bestScore.lt(lastBestScore)
+                .or(comment.bestScore.eq(lastBestScore).and(comment.commentId.lt(cursor.getLastCommentId())));
+    }
+
+    private BooleanExpression after(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return comment.createdAt.gt(cursor.getLastCreatedAt())
+                .or(comment.createdAt.eq(cursor.getLastCreatedAt()).and(comment.commentId.gt(cursor.getLastCommentId())));
+    }
+}
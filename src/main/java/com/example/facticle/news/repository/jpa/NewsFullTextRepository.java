@@ -0,0 +1,79 @@
+package com.example.facticle.news.repository.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 키워드 검색
+ * local, test 프로필의 키워드 검색 및 OpenSearch 장애 시의 대체 검색으로 사용(MySqlNewsKeywordSearch), 정확도(형태소 분석, 점수)보다는 가용성이 목적
+ * news.title, news_content.content에 ngram FULLTEXT 인덱스가 필요(sql/migration/02_add_news_fulltext_index.sql, 테스트 DB는 news-fulltext-index.sql)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsFullTextRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * NewsKeywordSearch.findKeywordMatchIds와 같은 의미
+     * 제목 키워드는 모두 제목에, 본문 키워드는 모두 본문에, 제목 또는 본문 키워드는 하나 이상이 제목이나 본문에 포함된 뉴스의 id를 news_id 오름차순으로 최대 limit개 반환
+     * 서로 다른 테이블의 MATCH를 OR로 묶으면 어느 FULLTEXT 인덱스도 사용하지 못하므로,
+     * 제목 또는 본문 조건은 제목, 본문을 각각 인덱스로 검색한 id를 UNION한 derived table과 조인
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> findIdsByKeywords(List<String> titleKeyword, List<String> contentKeyword, List<String> titleOrContentKeyword, int limit) {
+        List<String> joins = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (titleKeyword != null && !titleKeyword.isEmpty()) {
+            conditions.add("MATCH(n.title) AGAINST (:titleQuery IN BOOLEAN MODE)");
+            parameters.put("titleQuery", toBooleanQuery(titleKeyword, true));
+        }
+        if (contentKeyword != null && !contentKeyword.isEmpty()) {
+            joins.add("JOIN news_content nc ON nc.news_id = n.news_id");
+            conditions.add("MATCH(nc.content) AGAINST (:contentQuery IN BOOLEAN MODE)");
+            parameters.put("contentQuery", toBooleanQuery(contentKeyword, true));
+        }
+        if (titleOrContentKeyword != null && !titleOrContentKeyword.isEmpty()) {
+            joins.add("JOIN (" +
+                    "SELECT t.news_id FROM news t WHERE MATCH(t.title) AGAINST (:titleOrContentQuery IN BOOLEAN MODE) " +
+                    "UNION " +
+                    "SELECT c.news_id FROM news_content c WHERE MATCH(c.content) AGAINST (:titleOrContentQuery IN BOOLEAN MODE)" +
+                    ") toc ON toc.news_id = n.news_id");
+            parameters.put("titleOrContentQuery", toBooleanQuery(titleOrContentKeyword, false));
+        }
+        if (joins.isEmpty() && conditions.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT n.news_id FROM news n " +
+                        String.join(" ", joins) + " " +
+                        (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ") +
+                        "ORDER BY n.news_id " +
+                        "LIMIT :limit");
+        parameters.forEach(query::setParameter);
+        query.setParameter("limit", limit);
+
+        return ((List<Number>) query.getResultList()).stream()
+                .map(Number::longValue)
+                .toList();
+    }
+
+    //각 키워드를 구문("...")으로 검색, required라면 모든 구문이 포함되어야 함(+)
+    private String toBooleanQuery(List<String> keywords, boolean required) {
+        return keywords.stream()
+                .map(k -> k.replace("\"", " ").trim())
+                .filter(k -> !k.isEmpty())
+                .map(k -> (required ? "+" : "") + "\"" + k + "\"")
+                .collect(Collectors.joining(" "));
+    }
+}
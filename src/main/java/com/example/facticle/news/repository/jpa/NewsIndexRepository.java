@@ -0,0 +1,99 @@
+package com.example.facticle.news.repository.jpa;
+
+import com.example.facticle.news.dto.NewsDocumentDto;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.example.facticle.news.entity.QNews.news;
+import static com.example.facticle.news.entity.QNewsContent.newsContent;
+
+/**
+ * OpenSearch 색인(NewsIndexer)에 사용할 뉴스 조회
+ * 엔티티 대신 필요한 컬럼만 NewsDocumentDto로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsIndexRepository {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * (collectedAt, newsId)가 high-water mark 이후이고 collectedAt이 until 이전인 뉴스를 (collectedAt, newsId) 순서로 최대 limit개 조회
+     */
+    public List<NewsDocumentDto> findDocumentsCollectedAfter(LocalDateTime collectedAt, Long newsId, LocalDateTime until, int limit) {
+        return jpaQueryFactory
+                .select(documentProjection())
+                .from(news)
+                .leftJoin(news.newsContent, newsContent)
+                .where(news.collectedAt.gt(collectedAt)
+                                .or(news.collectedAt.eq(collectedAt).and(news.newsId.gt(newsId))),
+                        news.collectedAt.loe(until))
+                .orderBy(news.collectedAt.asc(), news.newsId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 전체 재색인용, newsId 이후의 뉴스를 newsId 순서로 최대 limit개 조회
+     */
+    public List<NewsDocumentDto> findDocumentsAfterId(Long newsId, int limit) {
+        return jpaQueryFactory
+                .select(documentProjection())
+                .from(news)
+                .leftJoin(news.newsContent, newsContent)
+                .where(news.newsId.gt(newsId))
+                .orderBy(news.newsId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 카운터 갱신용, 본문 등은 조회하지 않고 카운터만 조회
+     */
+    public List<NewsDocumentDto> findCounterDocuments(Collection<Long> newsIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(NewsDocumentDto.class,
+                        news.newsId,
+                        Expressions.nullExpression(String.class),
+                        Expressions.nullExpression(String.class),
+                        Expressions.nullExpression(news.category.getType()),
+                        Expressions.nullExpression(String.class),
+                        Expressions.nullExpression(LocalDateTime.class),
+                        Expressions.nullExpression(news.headlineScore.getType()),
+                        Expressions.nullExpression(news.factScore.getType()),
+                        news.likeCount,
+                        news.hateCount,
+                        news.commentCount,
+                        news.viewCount,
+                        news.ratingCount,
+                        news.averageRating))
+                .from(news)
+                .where(news.newsId.in(newsIds))
+                .fetch();
+    }
+
+    private ConstructorExpression<NewsDocumentDto> documentProjection() {
+        return Projections.constructor(NewsDocumentDto.class,
+                news.newsId,
+                news.title,
+                newsContent.content,
+                news.category,
+                news.mediaName,
+                news.collectedAt,
+                news.headlineScore,
+                news.factScore,
+                news.likeCount,
+                news.hateCount,
+                news.commentCount,
+                news.viewCount,
+                news.ratingCount,
+                news.averageRating);
+    }
+}
@@ -3,7 +3,10 @@ package com.example.facticle.news.repository.jpa;
 import com.example.facticle.news.entity.News;
 import com.example.facticle.news.entity.NewsInteraction;
 import com.example.facticle.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,12 @@ import java.util.Optional;
 @Repository
 public interface NewsInteractionRepository extends JpaRepository<NewsInteraction, Long> {
     Optional<NewsInteraction> findByUserAndNews(User user, News news);
+
+    /**
+     * 리액션/평점 변경 시 사용, 같은 유저의 동시 요청이 중복 반영되지 않도록 해당 인터랙션 row에 락을 걸고 조회
+     * (news_id, user_id) unique 인덱스를 타므로 해당 row에만 락이 걸림
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ni FROM NewsInteraction ni WHERE ni.user.userId = :userId AND ni.news.newsId = :newsId")
+    Optional<NewsInteraction> findByUserIdAndNewsIdForUpdate(Long userId, Long newsId);
 }
@@ -5,14 +5,51 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long>, NewsRepositoryCustom {
     Optional<News> findByUrl(String url);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE News n SET n.viewCount = n.viewCount + 1 WHERE n.newsId = :newsId")
-    void incrementViewCount(Long newsId);
+    /**
+     * ViewCountBuffer에 모인 조회 수를 한 번에 반영
+     * 같은 증가량을 가진 뉴스들을 하나의 UPDATE로 묶어서 처리
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE News n SET n.viewCount = n.viewCount + :delta WHERE n.newsId IN :newsIds")
+    int increaseViewCounts(List<Long> newsIds, int delta);
+
+    /**
+     * 좋아요/싫어요 수를 증감량만큼 원자적으로 반영
+     * 엔티티를 조회해 dirty checking으로 반영하면 동시 요청 시 lost update가 발생하므로 DB에서 직접 계산
+     */
+    @Modifying
+    @Query("UPDATE News n SET n.likeCount = n.likeCount + :likeDelta, n.hateCount = n.hateCount + :hateDelta WHERE n.newsId = :newsId")
+    int applyReactionDelta(Long newsId, int likeDelta, int hateDelta);
+
+    /**
+     * 댓글 수를 증감량만큼 원자적으로 반영
+     * 답글이 달린 댓글을 삭제하면 하위 답글도 함께 삭제되므로 삭제된 댓글 수만큼 감소
+     */
+    @Modifying
+    @Query("UPDATE News n SET n.commentCount = n.commentCount + :delta WHERE n.newsId = :newsId")
+    int applyCommentCountDelta(Long newsId, int delta);
+
+    /**
+     * 평점 수와 평점 합계를 증감량만큼 원자적으로 반영하고 평균 평점(averageRating)을 다시 계산
+     * MySQL은 SET 절을 왼쪽부터 반영하므로 averageRating을 먼저 두고 기존 값 + 증감량으로 계산
+     */
+    @Modifying
+    @Query("UPDATE News n SET " +
+            "n.averageRating = CASE WHEN (n.ratingCount + :countDelta) = 0 THEN 0 " +
+            "ELSE (n.totalRatingSum + :sumDelta) / (n.ratingCount + :countDelta) END, " +
+            "n.ratingCount = n.ratingCount + :countDelta, " +
+            "n.totalRatingSum = n.totalRatingSum + :sumDelta " +
+            "WHERE n.newsId = :newsId")
+    int applyRatingDelta(Long newsId, int countDelta, BigDecimal sumDelta);
 }
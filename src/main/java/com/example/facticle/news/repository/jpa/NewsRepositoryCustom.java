@@ -1,13 +1,26 @@
 package com.example.facticle.news.repository.jpa;
 
 import com.example.facticle.news.dto.NewsListResponseDto;
+import com.example.facticle.news.dto.NewsCounterDto;
+import com.example.facticle.news.dto.NewsCursorSlice;
 import com.example.facticle.news.dto.NewsSearchCondition;
-import com.example.facticle.news.entity.News;
+import com.example.facticle.news.dto.NewsWithInteractionDto;
+
+import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface NewsRepositoryCustom {
 
 
-    List<News> searchNewsList(NewsSearchCondition condition);
+    List<NewsListResponseDto> searchNewsList(NewsSearchCondition condition);
+
+    Page<NewsListResponseDto> searchNewsPage(NewsSearchCondition condition);
+
+    NewsCursorSlice searchNewsListByCursor(NewsSearchCondition condition);
+
+    Optional<NewsWithInteractionDto> findNewsWithInteraction(Long newsId, Long userId);
+
+    Optional<NewsCounterDto> findNewsCounters(Long newsId, Long userId);
 }
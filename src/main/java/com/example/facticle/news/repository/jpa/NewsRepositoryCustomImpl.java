@@ -1,25 +1,52 @@
 package com.example.facticle.news.repository.jpa;
 
+import com.example.facticle.common.exception.InvalidInputException;
+import com.example.facticle.common.service.DateTimeUtil;
+import com.example.facticle.news.dto.NewsCounterDto;
+import com.example.facticle.news.dto.NewsCursorSlice;
+import com.example.facticle.news.dto.NewsListResponseDto;
 import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.dto.NewsSearchCursor;
+import com.example.facticle.news.dto.NewsWithInteractionDto;
 import com.example.facticle.news.dto.SortBy;
 import com.example.facticle.news.dto.SortDirection;
 import com.example.facticle.news.entity.News;
 import com.example.facticle.news.entity.NewsCategory;
-import com.example.facticle.news.search.NewsSearchService; // ✅ 변경된 import
+import com.example.facticle.news.search.NewsKeywordSearch;
+import com.example.facticle.news.search.NewsSearchResult;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.MappingProjection;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.example.facticle.news.entity.QNews.news;
+import static com.example.facticle.news.entity.QNewsInteraction.newsInteraction;
 
 @Slf4j
 @Repository
@@ -30,66 +57,265 @@ public class NewsRepositoryCustomImpl implements NewsRepositoryCustom {
 
     // ❌ private final NewsDocumentRepository newsDocumentRepository;
     // ✅ OpenSearch 전용 서비스로 교체
-    private final NewsSearchService newsSearchService;
+    private final NewsKeywordSearch newsKeywordSearch;
+    private final NewsSearchCountCache newsSearchCountCache;
 
+    /**
+     * 뉴스 목록 응답에 필요한 컬럼만 조회해서 바로 NewsListResponseDto로 변환
+     * 엔티티를 조회하지 않으므로 목록에 쓰지 않는 TEXT 컬럼(점수 근거 등)을 읽지 않고, 영속성 컨텍스트에 엔티티와 스냅샷도 쌓이지 않음
+     * 수집 시간 KST 변환, 평점 반올림은 NewsListResponseDto.from(News)와 같게 처리
+     */
+    private static final MappingProjection<NewsListResponseDto> NEWS_LIST_PROJECTION = new MappingProjection<>(NewsListResponseDto.class,
+            news.newsId, news.imageUrl, news.title, news.summary, news.headlineScore, news.factScore, news.collectedAt,
+            news.likeCount, news.hateCount, news.commentCount, news.viewCount, news.ratingCount, news.averageRating) {
+        @Override
+        protected NewsListResponseDto map(Tuple row) {
+            return NewsListResponseDto.builder()
+                    .newsId(row.get(news.newsId))
+                    .imageUrl(row.get(news.imageUrl))
+                    .title(row.get(news.title))
+                    .summary(row.get(news.summary))
+                    .headlineScore(row.get(news.headlineScore))
+                    .factScore(row.get(news.factScore))
+                    .collectedAt(DateTimeUtil.convertUTCToKST(row.get(news.collectedAt)))
+                    .likeCount(row.get(news.likeCount))
+                    .hateCount(row.get(news.hateCount))
+                    .commentCount(row.get(news.commentCount))
+                    .viewCount(row.get(news.viewCount))
+                    .ratingCount(row.get(news.ratingCount))
+                    .rating(row.get(news.averageRating).setScale(1, RoundingMode.HALF_UP))
+                    .build();
+        }
+    };
+
+    //OpenSearch에서 처리하지 못한 키워드 검색(local, test 프로필, OpenSearch 장애 시)에서 IN 절로 사용할 최대 id 수
+    @Value("${news.search.max-keyword-hits:10000}")
+    private int maxKeywordHits;
+
+    @Override
+    public List<NewsListResponseDto> searchNewsList(NewsSearchCondition condition) {
+        NewsSearchResult result = pushdownSearch(condition);
+        if (result != null) {
+            return findAllByIdsInOrder(result.getNewsIds());
+        }
+        return fetchNewsPageContent(condition, searchPredicates(condition));
+    }
+
+    /**
+     * offset 페이징 + totalCount
+     * COUNT 쿼리는 PageableExecutionUtils에 따라 첫 페이지가 size보다 작거나 마지막 페이지인 경우처럼 content만으로 알 수 있으면 실행하지 않고,
+     * 실행하더라도 같은 필터 조건이면 NewsSearchCountCache에서 재사용
+     */
     @Override
-    public List<News> searchNewsList(NewsSearchCondition condition) {
+    public Page<NewsListResponseDto> searchNewsPage(NewsSearchCondition condition) {
+        NewsSearchResult result = pushdownSearch(condition);
+        if (result != null) {
+            return new PageImpl<>(findAllByIdsInOrder(result.getNewsIds()),
+                    PageRequest.of(condition.getPage(), condition.getSize()), result.getTotalHits());
+        }
+
+        //키워드 조건은 OpenSearch 조회가 필요하므로 content와 count 쿼리에서 한 번만 계산해서 공유
+        BooleanExpression[] predicates = searchPredicates(condition);
+        List<NewsListResponseDto> content = fetchNewsPageContent(condition, predicates);
+
+        return PageableExecutionUtils.getPage(content, PageRequest.of(condition.getPage(), condition.getSize()),
+                () -> newsSearchCountCache.get(condition, () -> countNews(predicates)));
+    }
+
+    private List<NewsListResponseDto> fetchNewsPageContent(NewsSearchCondition condition, BooleanExpression[] predicates) {
         return jpaQueryFactory
-                .select(news)
+                .select(NEWS_LIST_PROJECTION)
                 .from(news)
-                .where(
-                        titleKeywordIn(condition.getTitleKeyword()),
-                        contentKeywordIn(condition.getContentKeyword()),
-                        titleOrContentKeywordIn(condition.getTitleOrContentKeyword()),
-                        publishersIn(condition.getPublishers()),
-                        categoriesIn(condition.getCategories()),
-                        collectedAtBetween(condition.getStartDate(), condition.getEndDate()),
-                        headlineScoreBetween(condition.getMinHsScore(), condition.getMaxHsScore()),
-                        factScoreBetween(condition.getMinFsScore(), condition.getMaxFsScore()),
-                        likesBetween(condition.getMinLikes(), condition.getMaxLikes()),
-                        dislikesBetween(condition.getMinDislikes(), condition.getMaxDislikes()),
-                        commentsBetween(condition.getMinComments(), condition.getMaxComments()),
-                        viewsBetween(condition.getMinViews(), condition.getMaxViews()),
-                        ratingCountBetween(condition.getMinRatingCount(), condition.getMaxRatingCount()),
-                        ratingBetween(condition.getMinRating(), condition.getMaxRating())
-                )
-                .orderBy(getOrderSpecifier(condition.getSortBy(), condition.getSortDirection()))
+                .where(predicates)
+                .orderBy(getOrderSpecifiers(condition.getSortBy(), condition.getSortDirection()))
                 .offset((long) condition.getPage() * condition.getSize())
                 .limit(condition.getSize())
                 .fetch();
     }
 
+    //정렬, 조인 없이 필터 조건만으로 COUNT
+    private long countNews(BooleanExpression[] predicates) {
+        Long count = jpaQueryFactory
+                .select(news.count())
+                .from(news)
+                .where(predicates)
+                .fetchOne();
+        return (count != null) ? count : 0L;
+    }
+
     /**
-     * ✅ OpenSearch 검색 결과 ID 기반 필터링
+     * 커서(keyset) 페이징, offset 없이 (정렬 키, newsId)가 마지막으로 조회한 값보다 뒤인 뉴스만 조회
+     * 페이지가 깊어져도 인덱스에서 바로 시작 위치를 찾으므로 offset 방식처럼 앞의 행들을 읽고 버리지 않음
      */
-    private BooleanExpression titleKeywordIn(List<String> titleKeyword) {
-        log.info("titleKeyword {}", titleKeyword);
-        if (titleKeyword == null || titleKeyword.isEmpty()) {
-            return null;
+    @Override
+    public NewsCursorSlice searchNewsListByCursor(NewsSearchCondition condition) {
+        NewsSearchResult result = pushdownSearch(condition);
+        if (result != null) {
+            return new NewsCursorSlice(findAllByIdsInOrder(result.getNewsIds()), result.getNextCursor());
         }
 
-        List<Long> newsIds = newsSearchService.searchByTitle(titleKeyword);
-        return (newsIds != null && !newsIds.isEmpty()) ? news.newsId.in(newsIds) : null;
+        SortBy sortBy = condition.getSortBy();
+        SortDirection sortDirection = condition.getSortDirection();
+        ComparableExpressionBase<?> sortKey = getSortKey(sortBy);
+
+        BooleanExpression seekPredicate = null;
+        if (condition.getCursor() != null && !condition.getCursor().isBlank()) {
+            NewsSearchCursor cursor = NewsSearchCursor.decode(condition.getCursor(), sortBy, sortDirection);
+            seekPredicate = seekAfter(sortKey, parseSortKey(sortBy, cursor.getLastSortKey()), cursor.getLastNewsId(), sortDirection);
+        }
+
+        //다음 페이지 존재 여부를 알기 위해 size + 1개를 조회
+        List<Tuple> results = jpaQueryFactory
+                .select(NEWS_LIST_PROJECTION, sortKey)
+                .from(news)
+                .where(searchPredicates(condition))
+                .where(seekPredicate)
+                .orderBy(getOrderSpecifiers(sortBy, sortDirection))
+                .limit(condition.getSize() + 1)
+                .fetch();
+
+        boolean hasNext = results.size() > condition.getSize();
+        if (hasNext) {
+            results = results.subList(0, condition.getSize());
+        }
+
+        List<NewsListResponseDto> newsList = results.stream().map(tuple -> tuple.get(NEWS_LIST_PROJECTION)).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            //정렬 키는 DB에서 조회한 값을 그대로 사용(응답용으로 반올림된 값이 아닌, 다음 조회의 비교 기준과 일치하는 값)
+            Tuple last = results.get(results.size() - 1);
+            nextCursor = new NewsSearchCursor(sortBy, sortDirection,
+                    String.valueOf(last.get(sortKey)), last.get(NEWS_LIST_PROJECTION).getNewsId()).encode();
+        }
+
+        return new NewsCursorSlice(newsList, nextCursor);
     }
 
-    private BooleanExpression contentKeywordIn(List<String> contentKeyword) {
-        log.info("contentKeyword {}", contentKeyword);
-        if (contentKeyword == null || contentKeyword.isEmpty()) {
-            return null;
+    /**
+     * 필터, 정렬, 페이징까지 검색 엔진(OpenSearch)에서 처리할 수 있는 검색이라면 검색 엔진으로 검색
+     * 지원하지 않는 조건이거나 검색 엔진을 사용할 수 없다면(local, test 프로필, circuit breaker OPEN, 실패 등) null을 반환하고 MySQL에서 검색
+     */
+    private NewsSearchResult pushdownSearch(NewsSearchCondition condition) {
+        return newsKeywordSearch.search(condition);
+    }
+
+    /**
+     * OpenSearch에서 필터, 정렬, 페이징까지 끝낸 id 목록으로 뉴스를 조회하고 id 순서대로 정렬
+     */
+    private List<NewsListResponseDto> findAllByIdsInOrder(List<Long> newsIds) {
+        if (newsIds.isEmpty()) {
+            return List.of();
         }
 
-        List<Long> newsIds = newsSearchService.searchByContent(contentKeyword);
-        return (newsIds != null && !newsIds.isEmpty()) ? news.newsId.in(newsIds) : null;
+        Map<Long, NewsListResponseDto> newsById = jpaQueryFactory
+                .select(NEWS_LIST_PROJECTION)
+                .from(news)
+                .where(news.newsId.in(newsIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(NewsListResponseDto::getNewsId, Function.identity()));
+
+        //인덱스에는 있지만 DB에서 삭제된 뉴스는 제외
+        return newsIds.stream()
+                .map(newsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private BooleanExpression titleOrContentKeywordIn(List<String> titleOrContentKeyword) {
-        log.info("titleOrContentKeyword {}", titleOrContentKeyword);
-        if (titleOrContentKeyword == null || titleOrContentKeyword.isEmpty()) {
+    private BooleanExpression[] searchPredicates(NewsSearchCondition condition) {
+        return new BooleanExpression[]{
+                keywordsIn(condition.getTitleKeyword(), condition.getContentKeyword(), condition.getTitleOrContentKeyword()),
+                publishersIn(condition.getPublishers()),
+                categoriesIn(condition.getCategories()),
+                collectedAtBetween(condition.getStartDate(), condition.getEndDate()),
+                headlineScoreBetween(condition.getMinHsScore(), condition.getMaxHsScore()),
+                factScoreBetween(condition.getMinFsScore(), condition.getMaxFsScore()),
+                likesBetween(condition.getMinLikes(), condition.getMaxLikes()),
+                dislikesBetween(condition.getMinDislikes(), condition.getMaxDislikes()),
+                commentsBetween(condition.getMinComments(), condition.getMaxComments()),
+                viewsBetween(condition.getMinViews(), condition.getMaxViews()),
+                ratingCountBetween(condition.getMinRatingCount(), condition.getMaxRatingCount()),
+                ratingBetween(condition.getMinRating(), condition.getMaxRating())
+        };
+    }
+
+    /**
+     * 뉴스 상세 조회 시 뉴스와 유저의 NewsInteraction을 left join으로 한 번에 조회
+     */
+    @Override
+    public Optional<NewsWithInteractionDto> findNewsWithInteraction(Long newsId, Long userId) {
+        Tuple result = jpaQueryFactory
+                .select(news, newsInteraction)
+                .from(news)
+                .leftJoin(newsInteraction)
+                .on(newsInteraction.news.eq(news), newsInteraction.user.userId.eq(userId))
+                .where(news.newsId.eq(newsId))
+                .fetchOne();
+
+        if (result == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new NewsWithInteractionDto(result.get(news), result.get(newsInteraction)));
+    }
+
+    /**
+     * 뉴스 상세 캐시 hit 시 사용, TEXT 컬럼을 제외한 카운터 컬럼과 유저의 NewsInteraction만 조회
+     */
+    @Override
+    public Optional<NewsCounterDto> findNewsCounters(Long newsId, Long userId) {
+        JPAQuery<Tuple> query = jpaQueryFactory
+                .select(news.likeCount, news.hateCount, news.commentCount, news.viewCount,
+                        news.ratingCount, news.averageRating, newsInteraction)
+                .from(news);
+
+        //비회원은 인터랙션이 없으므로 항상 매칭되지 않는 조건으로 조인
+        query.leftJoin(newsInteraction)
+                .on(newsInteraction.news.eq(news),
+                        (userId != null) ? newsInteraction.user.userId.eq(userId) : Expressions.FALSE.isTrue());
+
+        Tuple result = query
+                .where(news.newsId.eq(newsId))
+                .fetchOne();
+
+        if (result == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new NewsCounterDto(
+                result.get(news.likeCount),
+                result.get(news.hateCount),
+                result.get(news.commentCount),
+                result.get(news.viewCount),
+                result.get(news.ratingCount),
+                result.get(news.averageRating),
+                result.get(newsInteraction)
+        ));
+    }
+
+    /**
+     * ✅ OpenSearch 검색 결과 ID 기반 필터링
+     * 제목, 본문, 제목 또는 본문 키워드를 각각 검색하지 않고 하나의 쿼리로 검색(NewsKeywordSearch.findKeywordMatchIds)
+     */
+    private BooleanExpression keywordsIn(List<String> titleKeyword, List<String> contentKeyword, List<String> titleOrContentKeyword) {
+        log.info("titleKeyword {}, contentKeyword {}, titleOrContentKeyword {}", titleKeyword, contentKeyword, titleOrContentKeyword);
+        if (isEmpty(titleKeyword) && isEmpty(contentKeyword) && isEmpty(titleOrContentKeyword)) {
             return null;
         }
 
-        List<Long> newsIds = newsSearchService.searchByTitleOrContent(titleOrContentKeyword);
-        return (newsIds != null && !newsIds.isEmpty()) ? news.newsId.in(newsIds) : null;
+        //OpenSearch pushdown을 사용하지 못한 경우이므로 MySQL FULLTEXT로 검색(NewsKeywordSearch 참고), IN 절이 너무 커지지 않도록 최대 maxKeywordHits개까지만 사용
+        List<Long> newsIds = newsKeywordSearch.findKeywordMatchIds(titleKeyword, contentKeyword, titleOrContentKeyword, maxKeywordHits + 1);
+
+        //일부 id만으로 필터, 정렬하면 결과와 전체 건수가 틀리므로 잘라내지 않고 키워드를 좁히도록 요청
+        if (newsIds.size() > maxKeywordHits) {
+            throw new InvalidInputException("invalid input", Map.of("keyword", "too many keyword matches, use more specific keywords"));
+        }
+
+        //검색 결과가 없다면 조건을 무시하지 않고 아무것도 조회되지 않도록 처리
+        return !newsIds.isEmpty() ? news.newsId.in(newsIds) : Expressions.FALSE.isTrue();
+    }
+
+    private boolean isEmpty(List<String> keywords) {
+        return keywords == null || keywords.isEmpty();
     }
 
     // ======================= 이하 QueryDSL 부분은 ✅ 기존 그대로 유지 =======================
@@ -200,33 +426,68 @@ public class NewsRepositoryCustomImpl implements NewsRepositoryCustom {
         if (minRating != null) minRating = minRating.setScale(1, RoundingMode.HALF_UP);
         if (maxRating != null) maxRating = maxRating.setScale(1, RoundingMode.HALF_UP);
 
-        NumberExpression<BigDecimal> averageRating =
-                news.totalRatingSum.divide(news.ratingCount.castToNum(BigDecimal.class));
-
+        //평점이 없는 뉴스도 average_rating이 0으로 저장되므로, 평점 조건이 있으면 평점이 있는 뉴스만 포함
         if (minRating != null && maxRating != null) {
-            return averageRating.between(minRating, maxRating);
+            return news.ratingCount.gt(0).and(news.averageRating.between(minRating, maxRating));
         } else if (minRating != null) {
-            return averageRating.goe(minRating);
+            return news.ratingCount.gt(0).and(news.averageRating.goe(minRating));
         } else if (maxRating != null) {
-            return averageRating.loe(maxRating);
+            return news.ratingCount.gt(0).and(news.averageRating.loe(maxRating));
         }
         return null;
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(SortBy sortBy, SortDirection sortDirection){
+    /**
+     * 정렬 기준 컬럼, 정렬과 커서 비교에 같은 컬럼을 사용
+     */
+    private ComparableExpressionBase<?> getSortKey(SortBy sortBy) {
         return switch (sortBy) {
-            case COLLECTED_AT -> (sortDirection == SortDirection.ASC ? news.collectedAt.asc() : news.collectedAt.desc());
-            case FACT_SCORE -> (sortDirection == SortDirection.ASC ? news.factScore.asc() : news.factScore.desc());
-            case HEADLINE_SCORE -> (sortDirection == SortDirection.ASC ? news.headlineScore.asc() : news.headlineScore.desc());
-            case VIEW_COUNT -> (sortDirection == SortDirection.ASC ? news.viewCount.asc() : news.viewCount.desc());
-            case RATING -> {
-                NumberExpression<BigDecimal> avgRating = news.totalRatingSum
-                        .divide(news.ratingCount.castToNum(BigDecimal.class));
-                yield sortDirection == SortDirection.ASC ? avgRating.asc() : avgRating.desc();
-            }
-            case LIKE_COUNT -> (sortDirection == SortDirection.ASC ? news.likeCount.asc() : news.likeCount.desc());
-            case HATE_COUNT -> (sortDirection == SortDirection.ASC ? news.hateCount.asc() : news.hateCount.desc());
-            default -> news.collectedAt.desc();
+            case FACT_SCORE -> news.factScore;
+            case HEADLINE_SCORE -> news.headlineScore;
+            case VIEW_COUNT -> news.viewCount;
+            case RATING -> news.averageRating;
+            case LIKE_COUNT -> news.likeCount;
+            case HATE_COUNT -> news.hateCount;
+            default -> news.collectedAt;
         };
     }
+
+    private Object parseSortKey(SortBy sortBy, String lastSortKey) {
+        try {
+            return switch (sortBy) {
+                case FACT_SCORE, HEADLINE_SCORE, RATING -> new BigDecimal(lastSortKey);
+                case VIEW_COUNT, LIKE_COUNT, HATE_COUNT -> Integer.valueOf(lastSortKey);
+                default -> parseCollectedAt(lastSortKey);
+            };
+        } catch (RuntimeException e) {
+            throw new InvalidInputException("invalid input", Map.of("cursor", "invalid cursor"));
+        }
+    }
+
+    //OpenSearch 검색 중 대체 검색으로 전환된 경우, OpenSearch가 만든 커서(epoch millis)도 이어서 사용할 수 있도록 처리
+    private LocalDateTime parseCollectedAt(String lastSortKey) {
+        if (!lastSortKey.isEmpty() && lastSortKey.chars().allMatch(Character::isDigit)) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(lastSortKey)), ZoneOffset.UTC);
+        }
+        return LocalDateTime.parse(lastSortKey);
+    }
+
+    //(sortKey, newsId) < (lastSortKey, lastNewsId), ASC라면 >
+    private BooleanExpression seekAfter(ComparableExpressionBase<?> sortKey, Object lastSortKey, Long lastNewsId, SortDirection sortDirection) {
+        Ops op = (sortDirection == SortDirection.ASC) ? Ops.GT : Ops.LT;
+        Expression<Object> lastKey = Expressions.constant(lastSortKey);
+
+        return Expressions.predicate(op, sortKey, lastKey)
+                .or(Expressions.predicate(Ops.EQ, sortKey, lastKey)
+                        .and(Expressions.predicate(op, news.newsId, Expressions.constant(lastNewsId))));
+    }
+
+    //정렬 키가 같은 뉴스의 순서를 고정하기 위해 newsId를 2차 정렬 기준으로 추가
+    private OrderSpecifier<?>[] getOrderSpecifiers(SortBy sortBy, SortDirection sortDirection){
+        ComparableExpressionBase<?> sortKey = getSortKey(sortBy);
+        if (sortDirection == SortDirection.ASC) {
+            return new OrderSpecifier<?>[]{sortKey.asc(), news.newsId.asc()};
+        }
+        return new OrderSpecifier<?>[]{sortKey.desc(), news.newsId.desc()};
+    }
 }
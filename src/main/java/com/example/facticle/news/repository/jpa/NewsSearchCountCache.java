@@ -0,0 +1,90 @@
+package com.example.facticle.news.repository.jpa;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * 뉴스 검색 totalCount 캐시
+ * 같은 검색 조건으로 페이지만 넘기는 경우가 대부분이므로, 필터 조건만으로 만든 키로 COUNT 결과를 짧게 캐시
+ * 새 뉴스나 카운터 변경이 바로 반영되지 않아도 되는 값이라 무효화 없이 TTL로만 관리
+ */
+@Component
+public class NewsSearchCountCache {
+    private final Cache<List<Object>, Long> cache;
+
+    public NewsSearchCountCache(@Value("${news.search.count-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${news.search.count-cache.expire-after-write-seconds:30}") long expireAfterWriteSeconds,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "newsSearchCount");
+    }
+
+    public long get(NewsSearchCondition condition, LongSupplier countQuery) {
+        return cache.get(keyOf(condition), key -> countQuery.getAsLong());
+    }
+
+    /**
+     * 정렬, 페이징 값은 제외하고 필터 조건만으로 키를 생성
+     * 문자열을 구분자로 이어붙이면 ["a,b"]와 ["a", "b"]가 같은 키가 되므로, 조건별 값을 그대로 담은 리스트를 키로 사용(equals/hashCode가 요소 단위로 비교)
+     * 리스트는 정렬하고 중복을 제거해서 순서만 다른 조건도 같은 키가 되도록 정규화
+     */
+    static List<Object> keyOf(NewsSearchCondition condition) {
+        return Arrays.asList(
+                normalize(condition.getTitleKeyword()),
+                normalize(condition.getContentKeyword()),
+                normalize(condition.getTitleOrContentKeyword()),
+                normalize(condition.getPublishers()),
+                normalize(condition.getCategories()),
+                condition.getStartDate(),
+                condition.getEndDate(),
+                normalize(condition.getMinHsScore()),
+                normalize(condition.getMaxHsScore()),
+                normalize(condition.getMinFsScore()),
+                normalize(condition.getMaxFsScore()),
+                condition.getMinLikes(),
+                condition.getMaxLikes(),
+                condition.getMinDislikes(),
+                condition.getMaxDislikes(),
+                condition.getMinComments(),
+                condition.getMaxComments(),
+                condition.getMinViews(),
+                condition.getMaxViews(),
+                condition.getMinRatingCount(),
+                condition.getMaxRatingCount(),
+                normalize(condition.getMinRating()),
+                normalize(condition.getMaxRating())
+        );
+    }
+
+    private static List<String> normalize(List<?> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> value.toString().trim())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private static String normalize(BigDecimal value) {
+        return (value == null) ? null : value.stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * OpenSearch를 사용하는 프로필에서 NewsKeywordSearch로 주입되는 구현체
+ * - search: 필터, 정렬, 페이징까지 OpenSearch에서 처리(NewsSearchService.search)하고 NewsSearchGuard로 감쌈, 실패하거나 circuit breaker가 열려 있으면 null
+ * - findKeywordMatchIds: search가 null일 때 MySQL 쿼리의 키워드 조건(IN 절)으로만 사용되므로 MySQL FULLTEXT로 검색
+ * 즉 키워드 검색은 OpenSearch pushdown 또는 MySQL FULLTEXT + QueryDSL 중 하나로만 처리됨
+ */
+@Primary
+@Component
+@Profile("!local & !test")
+@RequiredArgsConstructor
+public class GuardedNewsKeywordSearch implements NewsKeywordSearch {
+    private final NewsSearchService newsSearchService;
+    private final MySqlNewsKeywordSearch mySqlNewsKeywordSearch;
+    private final NewsSearchGuard newsSearchGuard;
+
+    /**
+     * 키워드 검색은 모두 search(pushdown)로 먼저 처리하므로, 이 메서드는 pushdown이 실패했거나 circuit breaker가 열려서 MySQL로 검색하는 경우에만 호출됨
+     * 같은 요청에서 OpenSearch를 다시 호출하면 한 요청의 실패가 두 번 집계되므로 OpenSearch를 거치지 않고 MySQL로 검색
+     */
+    @Override
+    public List<Long> findKeywordMatchIds(List<String> titleKeyword, List<String> contentKeyword, List<String> titleOrContentKeyword, int limit) {
+        return mySqlNewsKeywordSearch.findKeywordMatchIds(titleKeyword, contentKeyword, titleOrContentKeyword, limit);
+    }
+
+    /**
+     * circuit breaker가 열려 있다면 OpenSearch를 호출하지 않고, 실패하면 null을 반환해서 MySQL에서 검색
+     */
+    @Override
+    public NewsSearchResult search(NewsSearchCondition condition) {
+        if (newsSearchGuard.isOpen()) {
+            return null;
+        }
+        return newsSearchGuard.execute(() -> newsSearchService.search(condition), () -> null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.repository.jpa.NewsFullTextRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 키워드 검색
+ * local, test 프로필의 키워드 검색이자 OpenSearch 장애 시의 대체 검색이므로 모든 프로필에서 등록
+ * 필터, 정렬, 페이징은 기존 QueryDSL 쿼리에서 처리하므로 search는 지원하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class MySqlNewsKeywordSearch implements NewsKeywordSearch {
+    private final NewsFullTextRepository newsFullTextRepository;
+
+    @Override
+    public List<Long> findKeywordMatchIds(List<String> titleKeyword, List<String> contentKeyword, List<String> titleOrContentKeyword, int limit) {
+        return newsFullTextRepository.findIdsByKeywords(titleKeyword, contentKeyword, titleOrContentKeyword, limit);
+    }
+
+    @Override
+    public NewsSearchResult search(NewsSearchCondition condition) {
+        return null;
+    }
+}
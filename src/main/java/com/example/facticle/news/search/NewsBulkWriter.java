@@ -0,0 +1,161 @@
+package com.example.facticle.news.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * OpenSearch _bulk 요청 전송
+ * - 요청을 동기로 보내므로 OpenSearch가 처리하는 속도 이상으로 색인하지 않음(backpressure)
+ * - 429(색인 큐 초과), 503 등 일시적인 실패는 실패한 항목만 지수 백오프로 재시도
+ * - 재시도해도 실패하면 예외를 던져서 호출한 쪽이 high-water mark를 올리지 않고 다음 주기에 다시 시도
+ * - 재시도해도 성공할 수 없는 실패(매핑 오류 등 400)는 해당 문서 id를 반환해서 호출한 쪽이 처리 방법을 정하도록 함
+ * - 문서가 없어서 실패한 카운터 갱신(404)은 이후 신규 색인에서 최신 값으로 색인되므로 무시
+ */
+@Slf4j
+@Component
+@Profile("!local & !test")
+public class NewsBulkWriter {
+    private final RestHighLevelClient openSearchClient;
+    private final RequestOptions openSearchRequestOptions;
+    private final MeterRegistry meterRegistry;
+    private final BackoffPolicy backoffPolicy;
+
+    public NewsBulkWriter(RestHighLevelClient openSearchClient,
+                          RequestOptions openSearchRequestOptions,
+                          MeterRegistry meterRegistry,
+                          @Value("${opensearch.indexing.retry-initial-delay-ms:200}") long retryInitialDelayMillis,
+                          @Value("${opensearch.indexing.max-retries:5}") int maxRetries) {
+        this.openSearchClient = openSearchClient;
+        this.openSearchRequestOptions = openSearchRequestOptions;
+        this.meterRegistry = meterRegistry;
+        this.backoffPolicy = BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(retryInitialDelayMillis), maxRetries);
+    }
+
+    /**
+     * requests를 하나의 _bulk 요청으로 보내고, 일시적으로 실패한 항목은 재시도
+     * 재시도하지 않는 실패로 색인되지 않은 문서 id를 반환(모두 성공했다면 빈 목록)
+     * type은 메트릭(opensearch.bulk, news.index.documents) 태그
+     */
+    public List<String> write(List<? extends DocWriteRequest<?>> requests, String type) {
+        List<String> failedIds = new ArrayList<>();
+        if (requests.isEmpty()) {
+            return failedIds;
+        }
+
+        List<DocWriteRequest<?>> pending = new ArrayList<>(requests);
+        Iterator<TimeValue> backoff = backoffPolicy.iterator();
+        while (true) {
+            BulkResponse response;
+            try {
+                response = execute(pending, type);
+            } catch (IOException e) {
+                if (!backoff.hasNext()) {
+                    throw new RuntimeException("OpenSearch 색인 실패", e);
+                }
+                log.warn("OpenSearch 색인 요청 실패, 재시도 type={}", type, e);
+                sleep(backoff.next());
+                continue;
+            }
+
+            List<DocWriteRequest<?>> retries = new ArrayList<>();
+            BulkItemResponse[] items = response.getItems();
+            for (int i = 0; i < items.length; i++) {
+                BulkItemResponse item = items[i];
+                if (!item.isFailed()) {
+                    countDocuments(type, "success");
+                } else if (isRetryable(item.status())) {
+                    retries.add(pending.get(i));
+                } else if (item.status() == RestStatus.NOT_FOUND) {
+                    countDocuments(type, "not_found");
+                } else {
+                    countDocuments(type, "failure");
+                    failedIds.add(pending.get(i).id());
+                    log.warn("OpenSearch 색인 실패 type={}, id={}, reason={}", type, item.getId(), item.getFailureMessage());
+                }
+            }
+
+            if (retries.isEmpty()) {
+                return failedIds;
+            }
+            if (!backoff.hasNext()) {
+                countDocuments(type, "failure", retries.size());
+                throw new RuntimeException("OpenSearch 색인 실패, 재시도 횟수 초과 " + retries.size() + "건");
+            }
+            log.debug("OpenSearch 색인 일부 실패, {}건 재시도 type={}", retries.size(), type);
+            sleep(backoff.next());
+            pending = retries;
+        }
+    }
+
+    private BulkResponse execute(List<DocWriteRequest<?>> requests, String type) throws IOException {
+        BulkRequest bulkRequest = new BulkRequest();
+        requests.forEach(bulkRequest::add);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            BulkResponse response = openSearchClient.bulk(bulkRequest, openSearchRequestOptions);
+            if (response.hasFailures()) {
+                outcome = "partial_failure";
+            }
+            return response;
+        } catch (IOException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("opensearch.bulk")
+                    .description("OpenSearch _bulk 요청 응답 시간")
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean isRetryable(RestStatus status) {
+        return status == RestStatus.TOO_MANY_REQUESTS
+                || status == RestStatus.SERVICE_UNAVAILABLE
+                || status == RestStatus.GATEWAY_TIMEOUT
+                || status == RestStatus.BAD_GATEWAY;
+    }
+
+    private void countDocuments(String type, String outcome) {
+        countDocuments(type, outcome, 1);
+    }
+
+    private void countDocuments(String type, String outcome, int count) {
+        Counter.builder("news.index.documents")
+                .description("OpenSearch에 색인한 문서 수")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void sleep(TimeValue delay) {
+        try {
+            Thread.sleep(delay.millis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("OpenSearch 색인 재시도 중단", e);
+        }
+    }
+}
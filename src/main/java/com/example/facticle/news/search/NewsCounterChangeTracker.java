@@ -0,0 +1,58 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.service.NewsCounterChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카운터가 변경된 뉴스 id를 모아두고, NewsIndexer가 주기적으로 가져가서 OpenSearch에 반영
+ * 같은 뉴스의 변경은 하나로 합쳐지므로(compaction) 인기 기사에 반응이 몰려도 flush 주기마다 한 번만 갱신
+ * 값은 flush 시점에 DB에서 다시 조회하므로 증가분이 아닌 변경 여부만 기록
+ */
+@Component
+@Profile("!local & !test")
+public class NewsCounterChangeTracker {
+    private final Set<Long> changedNewsIds = ConcurrentHashMap.newKeySet();
+
+    public NewsCounterChangeTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("news.index.pending-counter-changes", changedNewsIds, Set::size)
+                .description("OpenSearch에 아직 반영되지 않은 카운터 변경 뉴스 수")
+                .register(meterRegistry);
+    }
+
+    //커밋된 변경만 반영, 조회 수 flush처럼 트랜잭션 밖에서 발행된 이벤트도 처리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounterChanged(NewsCounterChangedEvent event) {
+        changedNewsIds.addAll(event.getNewsIds());
+    }
+
+    /**
+     * 변경된 뉴스 id를 최대 limit개 꺼내서 반환
+     */
+    public List<Long> drain(int limit) {
+        List<Long> newsIds = new ArrayList<>();
+        Iterator<Long> iterator = changedNewsIds.iterator();
+        while (iterator.hasNext() && newsIds.size() < limit) {
+            newsIds.add(iterator.next());
+            iterator.remove();
+        }
+        return newsIds;
+    }
+
+    /**
+     * 반영에 실패한 뉴스 id를 되돌려 다음 flush에서 재시도
+     */
+    public void requeue(Collection<Long> newsIds) {
+        changedNewsIds.addAll(newsIds);
+    }
+}
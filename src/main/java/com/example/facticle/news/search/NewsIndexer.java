@@ -0,0 +1,478 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import com.example.facticle.news.dto.NewsDocumentDto;
+import com.example.facticle.news.repository.jpa.NewsIndexRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL -> OpenSearch(news_index) 색인
+ * - 신규 뉴스: (collectedAt, newsId) high-water mark 이후의 뉴스를 주기적으로 조회해서 _bulk로 색인
+ *   커밋이 늦게 끝난 트랜잭션의 뉴스를 놓치지 않도록 commit-lag-seconds 이전에 수집된 뉴스까지만 색인
+ *   high-water mark는 메모리에만 두고, 서버 시작 시 인덱스에서 가장 최근 문서로 복원
+ *   재시도해도 색인할 수 없는 문서(매핑 오류 등)가 있다면 mark를 그 앞까지만 올리고 다음 주기에 그 문서부터 다시 색인
+ *   (news.index.documents outcome=failure 메트릭과 error 로그로 확인해서 원인을 해결해야 이후 뉴스가 색인됨)
+ * - 보정: commit-lag-seconds보다 늦게 커밋되어 high-water mark 뒤에 나타난 뉴스는 위 작업으로 색인되지 않으므로,
+ *   최근 reconcile-window-minutes 동안 수집된 뉴스 중 인덱스에 없는 뉴스를 주기적으로 찾아서 색인
+ * - 카운터: NewsCounterChangeTracker에 모인 뉴스의 카운터를 DB에서 다시 조회해서 부분 업데이트
+ * - 전체 재색인: 새 인덱스(news_index_yyyyMMddHHmmss)에 모든 뉴스를 색인한 뒤 news_index alias를 한 번에 교체(무중단)
+ *   처음 재색인할 때 news_index가 alias가 아닌 인덱스라면 alias 교체와 함께 삭제
+ *   색인할 수 없는 문서가 있거나 도중에 실패하면 alias를 교체하지 않고 새 인덱스를 삭제
+ * 네 작업은 같은 인덱스에 쓰므로 lock으로 동시에 실행되지 않도록 하고, 재색인 중에는 주기 작업을 건너뜀(카운터 변경은 계속 쌓였다가 재색인 후 반영)
+ */
+@Slf4j
+@Component
+@Profile("!local & !test")
+public class NewsIndexer {
+    static final String ALIAS = "news_index";
+    private static final DateTimeFormatter INDEX_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final RestHighLevelClient openSearchClient;
+    private final RequestOptions openSearchRequestOptions;
+    private final NewsIndexRepository newsIndexRepository;
+    private final NewsBulkWriter newsBulkWriter;
+    private final NewsCounterChangeTracker newsCounterChangeTracker;
+    private final NewsSearchResultCache newsSearchResultCache;
+
+    @Value("${opensearch.indexing.batch-size:500}")
+    private int batchSize;
+    @Value("${opensearch.indexing.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll; //한 주기에 너무 오래 실행되지 않도록 제한, 남은 뉴스는 다음 주기에 색인
+    @Value("${opensearch.indexing.commit-lag-seconds:10}")
+    private long commitLagSeconds;
+    @Value("${opensearch.indexing.counter-flush-size:1000}")
+    private int counterFlushSize;
+    @Value("${opensearch.indexing.number-of-replicas:1}")
+    private int numberOfReplicas;
+    @Value("${opensearch.indexing.reconcile-window-minutes:30}")
+    private long reconcileWindowMinutes;
+
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+    private final ExecutorService reindexExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "news-reindex"));
+
+    //high-water mark, 아직 복원하지 않았다면 null
+    private LocalDateTime lastCollectedAt;
+    private Long lastNewsId;
+
+    public NewsIndexer(RestHighLevelClient openSearchClient,
+                       RequestOptions openSearchRequestOptions,
+                       NewsIndexRepository newsIndexRepository,
+                       NewsBulkWriter newsBulkWriter,
+                       NewsCounterChangeTracker newsCounterChangeTracker,
+                       NewsSearchResultCache newsSearchResultCache) {
+        this.openSearchClient = openSearchClient;
+        this.openSearchRequestOptions = openSearchRequestOptions;
+        this.newsIndexRepository = newsIndexRepository;
+        this.newsBulkWriter = newsBulkWriter;
+        this.newsCounterChangeTracker = newsCounterChangeTracker;
+        this.newsSearchResultCache = newsSearchResultCache;
+    }
+
+    /**
+     * high-water mark 이후의 신규 뉴스를 색인
+     */
+    @Scheduled(fixedDelayString = "${opensearch.indexing.poll-interval-ms:5000}")
+    public void indexNewNews() {
+        if (!indexLock.tryLock()) {
+            return;
+        }
+        try {
+            if (lastCollectedAt == null && !restoreHighWaterMark()) {
+                return;
+            }
+
+            LocalDateTime until = LocalDateTime.now(ZoneOffset.UTC).minusSeconds(commitLagSeconds);
+            int indexed = 0;
+            for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                List<NewsDocumentDto> documents = newsIndexRepository.findDocumentsCollectedAfter(lastCollectedAt, lastNewsId, until, batchSize);
+                if (documents.isEmpty()) {
+                    break;
+                }
+
+                List<String> failedIds = newsBulkWriter.write(documents.stream().map(document -> indexRequest(ALIAS, document)).toList(), "news");
+
+                //색인에 성공한 경우에만 high-water mark를 올림, 실패하면 다음 주기에 같은 위치부터 다시 색인
+                //재시도하지 않는 실패가 있다면 첫 번째 실패한 문서 앞까지만 올림(뒤의 문서는 다시 색인해도 같은 id로 덮어씀)
+                int succeeded = indexOfFirstFailure(documents, failedIds);
+                if (succeeded > 0) {
+                    NewsDocumentDto last = documents.get(succeeded - 1);
+                    lastCollectedAt = last.getCollectedAt();
+                    lastNewsId = last.getNewsId();
+                    indexed += succeeded;
+                }
+
+                if (succeeded < documents.size()) {
+                    log.error("색인할 수 없는 뉴스가 있어 high-water mark를 올리지 않음 newsId={}, failed={}", documents.get(succeeded).getNewsId(), failedIds);
+                    break;
+                }
+                if (documents.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (indexed > 0) {
+                log.debug("신규 뉴스 {}건 색인, high-water mark ({}, {})", indexed, lastCollectedAt, lastNewsId);
+                newsSearchResultCache.bumpVersion();
+            }
+        } catch (RuntimeException e) {
+            log.warn("신규 뉴스 색인 실패, 다음 주기에 재시도", e);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 최근 reconcile-window-minutes 동안 수집되어 high-water mark까지 지나간 뉴스 중 인덱스에 없는 뉴스를 색인
+     * high-water mark 이후의 뉴스는 indexNewNews가 색인하므로 high-water mark까지만 확인
+     */
+    @Scheduled(fixedDelayString = "${opensearch.indexing.reconcile-interval-ms:60000}")
+    public void reconcileRecentNews() {
+        if (!indexLock.tryLock()) {
+            return;
+        }
+        try {
+            if (lastCollectedAt == null) {
+                return;
+            }
+
+            LocalDateTime collectedAt = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(reconcileWindowMinutes);
+            Long newsId = 0L;
+            int indexed = 0;
+            List<NewsDocumentDto> documents;
+            while (!(documents = newsIndexRepository.findDocumentsCollectedAfter(collectedAt, newsId, lastCollectedAt, batchSize)).isEmpty()) {
+                Set<Long> indexedIds = findIndexedIds(documents.stream().map(NewsDocumentDto::getNewsId).toList());
+                List<IndexRequest> requests = documents.stream()
+                        .filter(document -> !indexedIds.contains(document.getNewsId()))
+                        .map(document -> indexRequest(ALIAS, document))
+                        .toList();
+                if (!requests.isEmpty()) {
+                    //색인할 수 없는 문서는 인덱스에 없으므로 reconcile-window-minutes 동안 다음 주기에 다시 시도
+                    indexed += requests.size() - newsBulkWriter.write(requests, "reconcile").size();
+                }
+
+                NewsDocumentDto last = documents.get(documents.size() - 1);
+                collectedAt = last.getCollectedAt();
+                newsId = last.getNewsId();
+                if (documents.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (indexed > 0) {
+                log.info("high-water mark 이전에 누락된 뉴스 {}건 색인", indexed);
+                newsSearchResultCache.bumpVersion();
+            }
+        } catch (RuntimeException e) {
+            log.warn("누락 뉴스 보정 색인 실패, 다음 주기에 재시도", e);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 카운터가 변경된 뉴스의 카운터 필드만 부분 업데이트
+     */
+    @Scheduled(fixedDelayString = "${opensearch.indexing.counter-flush-interval-ms:10000}")
+    public void flushCounterChanges() {
+        if (!indexLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Long> newsIds;
+            while (!(newsIds = newsCounterChangeTracker.drain(counterFlushSize)).isEmpty()) {
+                try {
+                    List<UpdateRequest> requests = newsIndexRepository.findCounterDocuments(newsIds).stream()
+                            .map(document -> new UpdateRequest(ALIAS, String.valueOf(document.getNewsId())).doc(counterSource(document)))
+                            .toList();
+                    //재시도하지 않는 실패는 다시 보내도 같은 결과이므로 requeue하지 않음(NewsBulkWriter가 메트릭, 로그로 남김)
+                    newsBulkWriter.write(requests, "counter");
+                } catch (RuntimeException e) {
+                    log.warn("카운터 색인 실패, 다음 주기에 재시도 (news: {})", newsIds.size(), e);
+                    newsCounterChangeTracker.requeue(newsIds);
+                    return;
+                }
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인을 백그라운드에서 시작하고 새 인덱스 이름을 반환
+     */
+    public String startReindex() {
+        if (!reindexing.compareAndSet(false, true)) {
+            throw new InvalidInputException("reindex is not available", Map.of("reindex", "reindex is already running"));
+        }
+        String newIndex = ALIAS + "_" + LocalDateTime.now(ZoneOffset.UTC).format(INDEX_SUFFIX_FORMATTER);
+        reindexExecutor.execute(() -> {
+            try {
+                reindex(newIndex);
+            } catch (Exception e) {
+                log.error("전체 재색인 실패 index={}", newIndex, e);
+            } finally {
+                reindexing.set(false);
+            }
+        });
+        return newIndex;
+    }
+
+    public boolean isReindexing() {
+        return reindexing.get();
+    }
+
+    void reindex(String newIndex) throws IOException {
+        indexLock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+            log.info("전체 재색인 시작 index={}", newIndex);
+
+            openSearchClient.indices().create(new CreateIndexRequest(newIndex).source(loadIndexDefinition(), XContentType.JSON), openSearchRequestOptions);
+            long total;
+            Set<String> oldIndices;
+            try {
+                total = indexAllNews(newIndex);
+                oldIndices = swapAlias(newIndex);
+            } catch (IOException | RuntimeException e) {
+                deleteFailedIndex(newIndex);
+                throw e;
+            }
+
+            if (!oldIndices.isEmpty()) {
+                openSearchClient.indices().delete(new DeleteIndexRequest(oldIndices.toArray(String[]::new)), openSearchRequestOptions);
+            }
+
+            //재색인 중 수집된 뉴스는 새 인덱스에 없을 수 있으므로 재색인 시작 시점부터 다시 색인(같은 id로 덮어쓰므로 중복 없음)
+            lastCollectedAt = startedAt.minusSeconds(commitLagSeconds);
+            lastNewsId = 0L;
+            newsSearchResultCache.bumpVersion();
+            log.info("전체 재색인 완료 index={}, documents={}, removed={}", newIndex, total, oldIndices);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 뉴스를 newIndex에 색인하고 색인한 문서 수를 반환
+     * 색인하는 동안에는 refresh, replica를 끄고 끝난 뒤 복구
+     * 색인할 수 없는 문서가 있다면 일부 뉴스가 빠진 인덱스로 alias를 교체하지 않도록 예외
+     */
+    private long indexAllNews(String newIndex) throws IOException {
+        updateSettings(newIndex, Settings.builder()
+                .put("index.refresh_interval", "-1")
+                .put("index.number_of_replicas", 0)
+                .build());
+
+        long lastId = 0L;
+        long total = 0;
+        List<NewsDocumentDto> documents;
+        while (!(documents = newsIndexRepository.findDocumentsAfterId(lastId, batchSize)).isEmpty()) {
+            List<String> failedIds = newsBulkWriter.write(documents.stream().map(document -> indexRequest(newIndex, document)).toList(), "reindex");
+            if (!failedIds.isEmpty()) {
+                throw new RuntimeException("전체 재색인 중 색인할 수 없는 뉴스 " + failedIds.size() + "건 newsIds=" + failedIds);
+            }
+            lastId = documents.get(documents.size() - 1).getNewsId();
+            total += documents.size();
+        }
+
+        updateSettings(newIndex, Settings.builder()
+                .putNull("index.refresh_interval")
+                .put("index.number_of_replicas", numberOfReplicas)
+                .build());
+        openSearchClient.indices().refresh(new RefreshRequest(newIndex), openSearchRequestOptions);
+        return total;
+    }
+
+    /**
+     * 실패한 재색인의 새 인덱스를 삭제
+     * alias 교체 요청은 적용된 뒤 응답만 실패했을 수 있으므로, news_index alias가 가리키지 않는 경우에만 삭제
+     */
+    private void deleteFailedIndex(String newIndex) {
+        try {
+            if (aliasedIndices().contains(newIndex)) {
+                log.warn("재색인 실패했지만 {} alias가 이미 새 인덱스를 가리키므로 삭제하지 않음 index={}", ALIAS, newIndex);
+                return;
+            }
+            openSearchClient.indices().delete(new DeleteIndexRequest(newIndex), openSearchRequestOptions);
+            log.info("실패한 재색인 인덱스 삭제 index={}", newIndex);
+        } catch (IOException | RuntimeException e) {
+            log.warn("실패한 재색인 인덱스 삭제 실패, 직접 삭제 필요 index={}", newIndex, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reindexExecutor.shutdownNow();
+    }
+
+    /**
+     * news_index alias를 newIndex로 교체하고 이전 인덱스 목록을 반환
+     * alias 추가와 제거를 하나의 요청으로 보내므로 검색 중에 alias가 비는 순간이 없음
+     */
+    private Set<String> swapAlias(String newIndex) throws IOException {
+        Set<String> oldIndices = aliasedIndices();
+
+        IndicesAliasesRequest request = new IndicesAliasesRequest()
+                .addAliasAction(AliasActions.add().index(newIndex).alias(ALIAS));
+        if (oldIndices.isEmpty() && openSearchClient.indices().exists(new GetIndexRequest(ALIAS), openSearchRequestOptions)) {
+            //alias가 아닌 인덱스 news_index를 삭제하면서 같은 이름의 alias를 추가
+            request.addAliasAction(AliasActions.removeIndex().index(ALIAS));
+        }
+        oldIndices.forEach(oldIndex -> request.addAliasAction(AliasActions.remove().index(oldIndex).alias(ALIAS)));
+
+        openSearchClient.indices().updateAliases(request, openSearchRequestOptions);
+        return oldIndices;
+    }
+
+    //news_index alias가 가리키는 인덱스 목록, alias가 없다면 빈 목록
+    private Set<String> aliasedIndices() throws IOException {
+        return openSearchClient.indices()
+                .getAlias(new GetAliasesRequest(ALIAS), openSearchRequestOptions)
+                .getAliases().keySet();
+    }
+
+    /**
+     * 인덱스에서 (collected_at, news_id)가 가장 큰 문서로 high-water mark를 복원
+     * 인덱스가 아직 없다면 색인하지 않음(전체 재색인으로 생성)
+     */
+    private boolean restoreHighWaterMark() {
+        try {
+            SearchResponse response = openSearchClient.search(new SearchRequest(ALIAS).source(new SearchSourceBuilder()
+                    .size(1)
+                    .fetchSource(false)
+                    .sort(NewsSearchQueryBuilder.COLLECTED_AT, SortOrder.DESC)
+                    .sort(NewsSearchQueryBuilder.NEWS_ID, SortOrder.DESC)), openSearchRequestOptions);
+
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits.length == 0) {
+                lastCollectedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+                lastNewsId = 0L;
+            } else {
+                //date 필드의 sort 값은 epoch millis
+                Object[] sortValues = hits[0].getSortValues();
+                lastCollectedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(((Number) sortValues[0]).longValue()), ZoneOffset.UTC);
+                lastNewsId = ((Number) sortValues[1]).longValue();
+            }
+            log.info("색인 high-water mark 복원 ({}, {})", lastCollectedAt, lastNewsId);
+            return true;
+        } catch (OpenSearchStatusException e) {
+            if (e.status() == RestStatus.NOT_FOUND) {
+                log.warn("{} 인덱스가 없어 신규 뉴스를 색인하지 않음, 전체 재색인 필요", ALIAS);
+                return false;
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //documents 중 첫 번째로 색인에 실패한 문서의 위치, 모두 성공했다면 documents.size()
+    private int indexOfFirstFailure(List<NewsDocumentDto> documents, List<String> failedIds) {
+        for (int i = 0; i < documents.size() && !failedIds.isEmpty(); i++) {
+            if (failedIds.contains(String.valueOf(documents.get(i).getNewsId()))) {
+                return i;
+            }
+        }
+        return documents.size();
+    }
+
+    //newsIds 중 인덱스에 있는 뉴스 id
+    private Set<Long> findIndexedIds(List<Long> newsIds) {
+        try {
+            SearchResponse response = openSearchClient.search(new SearchRequest(ALIAS).source(new SearchSourceBuilder()
+                    .query(QueryBuilders.idsQuery().addIds(newsIds.stream().map(String::valueOf).toArray(String[]::new)))
+                    .size(newsIds.size())
+                    .fetchSource(false)), openSearchRequestOptions);
+
+            return Arrays.stream(response.getHits().getHits())
+                    .map(hit -> Long.valueOf(hit.getId()))
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void updateSettings(String index, Settings settings) throws IOException {
+        openSearchClient.indices().putSettings(new UpdateSettingsRequest(index).settings(settings), openSearchRequestOptions);
+    }
+
+    private String loadIndexDefinition() throws IOException {
+        return new ClassPathResource("opensearch/news_index.json").getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private IndexRequest indexRequest(String index, NewsDocumentDto document) {
+        Map<String, Object> source = counterSource(document);
+        source.put(NewsSearchQueryBuilder.NEWS_ID, document.getNewsId());
+        source.put(NewsSearchQueryBuilder.TITLE, document.getTitle());
+        source.put(NewsSearchQueryBuilder.CONTENT, document.getContent());
+        source.put(NewsSearchQueryBuilder.CATEGORY, document.getCategory() != null ? document.getCategory().name() : null);
+        source.put(NewsSearchQueryBuilder.MEDIA_NAME, document.getMediaName());
+        source.put(NewsSearchQueryBuilder.COLLECTED_AT, document.getCollectedAt().format(NewsSearchQueryBuilder.DATE_FORMATTER));
+        source.put(NewsSearchQueryBuilder.HEADLINE_SCORE, toDouble(document.getHeadlineScore()));
+        source.put(NewsSearchQueryBuilder.FACT_SCORE, toDouble(document.getFactScore()));
+        return new IndexRequest(index).id(String.valueOf(document.getNewsId())).source(source);
+    }
+
+    private Map<String, Object> counterSource(NewsDocumentDto document) {
+        Map<String, Object> source = new HashMap<>();
+        source.put(NewsSearchQueryBuilder.LIKE_COUNT, document.getLikeCount());
+        source.put(NewsSearchQueryBuilder.HATE_COUNT, document.getHateCount());
+        source.put(NewsSearchQueryBuilder.COMMENT_COUNT, document.getCommentCount());
+        source.put(NewsSearchQueryBuilder.VIEW_COUNT, document.getViewCount());
+        source.put(NewsSearchQueryBuilder.RATING_COUNT, document.getRatingCount());
+        source.put(NewsSearchQueryBuilder.AVERAGE_RATING, toDouble(document.getAverageRating()));
+        return source;
+    }
+
+    private Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
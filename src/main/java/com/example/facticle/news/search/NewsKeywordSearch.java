@@ -0,0 +1,26 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+
+import java.util.List;
+
+/**
+ * 뉴스 키워드 검색
+ * 프로필에 따라 구현체가 선택됨
+ * - local, test: MySqlNewsKeywordSearch(MySQL FULLTEXT ngram 인덱스), OpenSearch 없이 검색 가능
+ * - 그 외: GuardedNewsKeywordSearch(search는 NewsSearchService로 OpenSearch 검색, 실패 시와 findKeywordMatchIds는 MySqlNewsKeywordSearch)
+ */
+public interface NewsKeywordSearch {
+
+    /**
+     * 제목 키워드는 모두 제목에, 본문 키워드는 모두 본문에, 제목 또는 본문 키워드는 하나 이상이 제목이나 본문에 포함된 뉴스의 id를
+     * news_id 오름차순으로 최대 limit개 반환
+     */
+    List<Long> findKeywordMatchIds(List<String> titleKeyword, List<String> contentKeyword, List<String> titleOrContentKeyword, int limit);
+
+    /**
+     * 필터, 정렬, 페이징까지 검색 엔진에서 처리하고 해당 페이지의 뉴스 id만 순서대로 반환
+     * 지원하지 않는 조건이거나 검색 엔진을 사용할 수 없다면 null(MySQL 쿼리로 처리)
+     */
+    NewsSearchResult search(NewsSearchCondition condition);
+}
@@ -0,0 +1,113 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * OpenSearch 검색 격리
+ * - bulkhead: 동시에 OpenSearch를 호출하는 요청 수를 제한해서, OpenSearch가 느려져도 검색 외의 API까지 Tomcat 스레드가 고갈되지 않도록 함
+ * - circuit breaker: 실패율이나 느린 호출 비율이 높아지면 일정 시간 OpenSearch 호출을 차단
+ * 호출이 거부되거나 실패하면 fallback(MySQL FULLTEXT 검색)으로 처리
+ * 상태는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.* 메트릭으로, fallback 비율은 news.search.keyword(source 태그) 메트릭으로 노출
+ */
+@Slf4j
+@Component
+@Profile("!local & !test")
+public class NewsSearchGuard {
+    private static final String NAME = "newsSearch";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public NewsSearchGuard(@Value("${opensearch.resilience.max-concurrent-calls:20}") int maxConcurrentCalls,
+                           @Value("${opensearch.resilience.max-wait-ms:100}") long maxWaitMillis,
+                           @Value("${opensearch.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+                           @Value("${opensearch.resilience.slow-call-duration-ms:2000}") long slowCallDurationMillis,
+                           @Value("${opensearch.resilience.sliding-window-size:50}") int slidingWindowSize,
+                           @Value("${opensearch.resilience.wait-in-open-state-seconds:30}") long waitInOpenStateSeconds,
+                           MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(10, slidingWindowSize))
+                .waitDurationInOpenState(Duration.ofSeconds(waitInOpenStateSeconds))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                //bulkhead가 가득 찬 것, 잘못된 입력(손상된 커서 등)은 OpenSearch 장애가 아니므로 실패로 집계하지 않음
+                .ignoreExceptions(BulkheadFullException.class, InvalidInputException.class)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build());
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.meterRegistry = meterRegistry;
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("OpenSearch 검색 circuit breaker 상태 변경 {}", event.getStateTransition()));
+    }
+
+    /**
+     * OpenSearch 호출을 시도하지 않아도 될 만큼 차단된 상태인지(OPEN)
+     * 검색 방식을 고를 때(OpenSearch pushdown vs MySQL) 미리 확인하는 용도
+     */
+    public boolean isOpen() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * search를 bulkhead, circuit breaker를 거쳐 실행하고, 거부되거나 실패하면 fallback 결과를 반환
+     * 잘못된 입력은 fallback으로도 처리할 수 없으므로 그대로 던짐(400 응답)
+     */
+    public <T> T execute(Supplier<T> search, Supplier<T> fallback) {
+        try {
+            T result = circuitBreaker.decorateSupplier(Bulkhead.decorateSupplier(bulkhead, search)).get();
+            countRequest("opensearch", "none");
+            return result;
+        } catch (CallNotPermittedException e) {
+            countRequest("fallback", "circuit_open");
+        } catch (BulkheadFullException e) {
+            countRequest("fallback", "bulkhead_full");
+        } catch (InvalidInputException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("OpenSearch 검색 실패, MySQL 검색으로 대체", e);
+            countRequest("fallback", "error");
+        }
+        return fallback.get();
+    }
+
+    private void countRequest(String source, String reason) {
+        Counter.builder("news.search.keyword")
+                .description("키워드 검색 요청 수(source=fallback 비율로 MySQL 대체 검색 비율 확인)")
+                .tag("source", source)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.dto.NewsSearchCursor;
+import com.example.facticle.news.dto.PagingMode;
+import com.example.facticle.news.dto.SortBy;
+import com.example.facticle.news.dto.SortDirection;
+import com.example.facticle.news.entity.NewsCategory;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 검색 조건을 OpenSearch 쿼리로 변환
+ * 키워드뿐만 아니라 카테고리, 언론사, 수집 기간, 점수, 카운터 범위 필터와 정렬까지 OpenSearch에서 처리하고, MySQL은 최종 페이지의 id만 조회
+ * 좋아요, 조회 수 같은 카운터는 주기적으로 인덱스에 반영되므로(NewsIndexer) 카운터 필터/정렬은 flush 주기만큼 늦게 반영될 수 있음
+ * (응답의 카운터 값은 MySQL에서 조회하므로 최신 값)
+ */
+public final class NewsSearchQueryBuilder {
+    //news_index 문서 필드
+    static final String NEWS_ID = "news_id";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    static final String CATEGORY = "category";
+    static final String MEDIA_NAME = "media_name";
+    static final String COLLECTED_AT = "collected_at";
+    static final String HEADLINE_SCORE = "headline_score";
+    static final String FACT_SCORE = "fact_score";
+    //카운터 필드, NewsIndexer가 색인
+    static final String LIKE_COUNT = "like_count";
+    static final String HATE_COUNT = "hate_count";
+    static final String COMMENT_COUNT = "comment_count";
+    static final String VIEW_COUNT = "view_count";
+    static final String RATING_COUNT = "rating_count";
+    static final String AVERAGE_RATING = "average_rating";
+
+    private static final String DATE_FORMAT = "strict_date_hour_minute_second";
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private NewsSearchQueryBuilder() {
+    }
+
+    /**
+     * 키워드가 있는 검색만 OpenSearch에서 처리, 키워드가 없다면 MySQL 인덱스로 충분
+     * 모든 필터와 정렬 필드가 인덱스에 있으므로, 키워드 검색 결과 전체를 MySQL IN 절로 넘기지 않고 상위 N개를 OpenSearch에서 정확히 계산
+     */
+    public static boolean supports(NewsSearchCondition condition) {
+        return notEmpty(condition.getTitleKeyword())
+                || notEmpty(condition.getContentKeyword())
+                || notEmpty(condition.getTitleOrContentKeyword());
+    }
+
+    /**
+     * offset 페이징은 from/size + 전체 건수, 커서 페이징은 search_after로 size + 1개(다음 페이지 존재 여부 확인용)를 조회
+     * 문서 내용은 필요 없으므로 _source는 제외하고 _id와 정렬 값만 받음
+     */
+    public static SearchSourceBuilder build(NewsSearchCondition condition) {
+        String sortField = sortField(condition.getSortBy());
+        SortOrder sortOrder = (condition.getSortDirection() == SortDirection.ASC) ? SortOrder.ASC : SortOrder.DESC;
+
+        SearchSourceBuilder source = new SearchSourceBuilder()
+                .query(query(condition))
+                .fetchSource(false)
+                .sort(sortField, sortOrder)
+                .sort(NEWS_ID, sortOrder); //정렬 값이 같은 문서의 순서를 고정
+
+        if (condition.getPagingMode() == PagingMode.CURSOR) {
+            source.size(condition.getSize() + 1);
+            if (condition.getCursor() != null && !condition.getCursor().isBlank()) {
+                NewsSearchCursor cursor = NewsSearchCursor.decode(condition.getCursor(), condition.getSortBy(), condition.getSortDirection());
+                source.searchAfter(new Object[]{parseSortValue(condition.getSortBy(), cursor.getLastSortKey()), cursor.getLastNewsId()});
+            }
+        } else {
+            source.from(condition.getPage() * condition.getSize())
+                    .size(condition.getSize())
+                    .trackTotalHits(true);
+        }
+        return source;
+    }
+
+    static BoolQueryBuilder query(NewsSearchCondition condition) {
+        BoolQueryBuilder boolQuery = keywordQuery(condition.getTitleKeyword(), condition.getContentKeyword(), condition.getTitleOrContentKeyword());
+
+        //점수 계산이 필요 없는 조건은 filter로 처리(캐시 가능)
+        if (notEmpty(condition.getCategories())) {
+            boolQuery.filter(QueryBuilders.termsQuery(CATEGORY, condition.getCategories().stream().map(NewsCategory::name).toList()));
+        }
+        if (notEmpty(condition.getPublishers())) {
+            boolQuery.filter(QueryBuilders.termsQuery(MEDIA_NAME, condition.getPublishers()));
+        }
+        if (condition.getStartDate() != null || condition.getEndDate() != null) {
+            //검색 조건의 날짜는 컨트롤러에서 UTC로 변환되어 있음
+            RangeQueryBuilder collectedAt = QueryBuilders.rangeQuery(COLLECTED_AT).timeZone("UTC").format(DATE_FORMAT);
+            if (condition.getStartDate() != null) collectedAt.gte(DATE_FORMATTER.format(condition.getStartDate()));
+            if (condition.getEndDate() != null) collectedAt.lte(DATE_FORMATTER.format(condition.getEndDate()));
+            boolQuery.filter(collectedAt);
+        }
+        addScoreRange(boolQuery, HEADLINE_SCORE, condition.getMinHsScore(), condition.getMaxHsScore());
+        addScoreRange(boolQuery, FACT_SCORE, condition.getMinFsScore(), condition.getMaxFsScore());
+        addCountRange(boolQuery, LIKE_COUNT, condition.getMinLikes(), condition.getMaxLikes());
+        addCountRange(boolQuery, HATE_COUNT, condition.getMinDislikes(), condition.getMaxDislikes());
+        addCountRange(boolQuery, COMMENT_COUNT, condition.getMinComments(), condition.getMaxComments());
+        addCountRange(boolQuery, VIEW_COUNT, condition.getMinViews(), condition.getMaxViews());
+        addCountRange(boolQuery, RATING_COUNT, condition.getMinRatingCount(), condition.getMaxRatingCount());
+        if (condition.getMinRating() != null || condition.getMaxRating() != null) {
+            //MySQL 검색과 같게 소수점 첫째 자리로 반올림해서 비교하고, 평점이 없는(average_rating 0) 뉴스는 제외
+            addScoreRange(boolQuery, AVERAGE_RATING,
+                    condition.getMinRating() != null ? condition.getMinRating().setScale(1, RoundingMode.HALF_UP) : null,
+                    condition.getMaxRating() != null ? condition.getMaxRating().setScale(1, RoundingMode.HALF_UP) : null);
+            boolQuery.filter(QueryBuilders.rangeQuery(RATING_COUNT).gt(0));
+        }
+
+        return boolQuery;
+    }
+
+    /**
+     * 제목, 본문, 제목 또는 본문 키워드 조건을 하나의 bool 쿼리로 결합
+     * 제목 키워드는 모두 제목에, 본문 키워드는 모두 본문에, 제목 또는 본문 키워드는 하나 이상이 제목이나 본문에 포함되어야 하고, 세 조건은 AND로 결합
+     */
+    public static BoolQueryBuilder keywordQuery(List<String> titleKeyword, List<String> contentKeyword, List<String> titleOrContentKeyword) {
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+
+        if (notEmpty(titleKeyword)) {
+            titleKeyword.forEach(k -> boolQuery.must(QueryBuilders.matchPhraseQuery(TITLE, k)));
+        }
+        if (notEmpty(contentKeyword)) {
+            contentKeyword.forEach(k -> boolQuery.must(QueryBuilders.matchPhraseQuery(CONTENT, k)));
+        }
+        if (notEmpty(titleOrContentKeyword)) {
+            //다른 must/filter와 함께 쓰면 should가 선택 조건이 되므로 별도의 bool로 감싸서 하나 이상 일치하도록 강제
+            BoolQueryBuilder titleOrContent = QueryBuilders.boolQuery().minimumShouldMatch(1);
+            titleOrContentKeyword.forEach(k ->
+                    titleOrContent.should(QueryBuilders.matchPhraseQuery(TITLE, k))
+                            .should(QueryBuilders.matchPhraseQuery(CONTENT, k))
+            );
+            boolQuery.must(titleOrContent);
+        }
+        return boolQuery;
+    }
+
+    private static void addScoreRange(BoolQueryBuilder boolQuery, String field, BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return;
+        }
+        RangeQueryBuilder range = QueryBuilders.rangeQuery(field);
+        if (min != null) range.gte(min.doubleValue());
+        if (max != null) range.lte(max.doubleValue());
+        boolQuery.filter(range);
+    }
+
+    private static void addCountRange(BoolQueryBuilder boolQuery, String field, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return;
+        }
+        RangeQueryBuilder range = QueryBuilders.rangeQuery(field);
+        if (min != null) range.gte(min);
+        if (max != null) range.lte(max);
+        boolQuery.filter(range);
+    }
+
+    private static String sortField(SortBy sortBy) {
+        return switch (sortBy) {
+            case HEADLINE_SCORE -> HEADLINE_SCORE;
+            case FACT_SCORE -> FACT_SCORE;
+            case LIKE_COUNT -> LIKE_COUNT;
+            case HATE_COUNT -> HATE_COUNT;
+            case VIEW_COUNT -> VIEW_COUNT;
+            case RATING -> AVERAGE_RATING;
+            default -> COLLECTED_AT;
+        };
+    }
+
+    //OpenSearch가 반환한 정렬 값(날짜는 epoch millis)을 search_after에 그대로 다시 사용
+    //MySQL 검색에서 만든 커서(날짜가 LocalDateTime 문자열)도 이어서 사용할 수 있도록 변환
+    private static Object parseSortValue(SortBy sortBy, String lastSortKey) {
+        try {
+            //삼항 연산자를 쓰면 long이 double로 승격되므로 분기해서 반환
+            if (sortBy == SortBy.COLLECTED_AT) {
+                if (lastSortKey.contains("T")) {
+                    return LocalDateTime.parse(lastSortKey).toInstant(ZoneOffset.UTC).toEpochMilli();
+                }
+                return Long.valueOf(lastSortKey);
+            }
+            if (sortBy == SortBy.LIKE_COUNT || sortBy == SortBy.HATE_COUNT || sortBy == SortBy.VIEW_COUNT) {
+                return Long.valueOf(lastSortKey);
+            }
+            return Double.valueOf(lastSortKey);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidInputException("invalid input", Map.of("cursor", "invalid cursor"));
+        }
+    }
+
+    private static boolean notEmpty(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
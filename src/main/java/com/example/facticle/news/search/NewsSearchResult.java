@@ -0,0 +1,18 @@
+package com.example.facticle.news.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * OpenSearch 검색 결과, 정렬된 뉴스 id 목록
+ * offset 페이징이라면 totalHits, 커서 페이징이라면 nextCursor(마지막 페이지라면 null)를 함께 반환
+ */
+@Getter
+@AllArgsConstructor
+public class NewsSearchResult {
+    private List<Long> newsIds;
+    private long totalHits;
+    private String nextCursor;
+}
@@ -0,0 +1,140 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.dto.PagingMode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.core.CountRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * OpenSearch 키워드 검색(NewsSearchService.search) 결과 캐시, 한 페이지의 뉴스 id 목록과 전체 건수 또는 다음 커서
+ * 같은 인기 키워드가 반복해서 검색되므로 정규화된 키워드 + 필터, 정렬, 페이지(또는 커서)로 결과를 짧게 캐시
+ * - 같은 키에 대한 동시 cache miss는 진행 중인 검색(future) 하나를 함께 기다림(single-flight)
+ *   결과 대신 future를 캐시하므로 검색이 느려도 Caffeine의 로딩 lock을 잡고 있지 않고, 실패한 future는 자동으로 제거됨
+ * - 크롤링 서버가 news_index에 새 문서를 색인하면 버전을 올려서 이전 결과를 사용하지 않도록 함
+ *   (색인은 다른 서버에서 하므로 주기적으로 문서 수를 확인, 이 서버에서 색인하는 경우엔 bumpVersion 직접 호출)
+ */
+@Slf4j
+@Component
+@Profile("!local & !test")
+public class NewsSearchResultCache {
+    private final AsyncCache<List<Object>, NewsSearchResult> cache;
+    private final RestHighLevelClient openSearchClient;
+    private final RequestOptions openSearchRequestOptions;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastIndexedCount = -1;
+
+    public NewsSearchResultCache(@Value("${opensearch.search.cache.maximum-size:1000}") long maximumSize,
+                                 @Value("${opensearch.search.cache.expire-after-write-seconds:60}") long expireAfterWriteSeconds,
+                                 RestHighLevelClient openSearchClient,
+                                 RequestOptions openSearchRequestOptions,
+                                 MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .buildAsync();
+        this.openSearchClient = openSearchClient;
+        this.openSearchRequestOptions = openSearchRequestOptions;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "newsSearchResult");
+    }
+
+    /**
+     * 캐시된 결과(또는 진행 중인 검색)가 없다면 loader로 검색(같은 키의 동시 요청은 loader를 한 번만 실행)
+     * 키워드, 언론사, 카테고리 목록은 순서, 중복, 앞뒤 공백을 무시하도록 정규화(대소문자는 필드의 analyzer에 따라 다르므로 구분)
+     * 캐시 키와 검색 결과가 일치하도록 loader는 정규화된 검색 조건으로 검색
+     * loader가 바로 던진 예외(잘못된 커서 등)는 그대로 전달되고, 실패하거나 null로 완료된 검색은 캐시하지 않음
+     */
+    public CompletableFuture<NewsSearchResult> get(NewsSearchCondition condition,
+                                                   Function<NewsSearchCondition, CompletableFuture<NewsSearchResult>> loader) {
+        NewsSearchCondition normalized = normalize(condition);
+        return cache.get(keyOf(normalized), (key, executor) -> loader.apply(normalized)
+                .thenApply(result -> (result != null) ? new NewsSearchResult(List.copyOf(result.getNewsIds()), result.getTotalHits(), result.getNextCursor()) : null));
+    }
+
+    public void bumpVersion() {
+        version.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * news_index의 문서 수가 바뀌었다면 새 문서가 색인된 것으로 보고 버전을 올림
+     */
+    @Scheduled(fixedDelayString = "${opensearch.search.cache.version-check-interval-ms:10000}")
+    public void checkIndexVersion() {
+        try {
+            long count = openSearchClient.count(new CountRequest("news_index"), openSearchRequestOptions).getCount();
+            if (lastIndexedCount != -1 && count != lastIndexedCount) {
+                log.debug("news_index 문서 수 변경 {} -> {}, 검색 결과 캐시 버전 증가", lastIndexedCount, count);
+                bumpVersion();
+            }
+            lastIndexedCount = count;
+        } catch (Exception e) {
+            //OpenSearch 장애 시에도 TTL로 만료되므로 다음 주기에 다시 확인
+            log.warn("news_index 문서 수 확인 실패", e);
+        }
+    }
+
+    private static NewsSearchCondition normalize(NewsSearchCondition condition) {
+        return condition.toBuilder()
+                .titleKeyword(normalize(condition.getTitleKeyword()))
+                .contentKeyword(normalize(condition.getContentKeyword()))
+                .titleOrContentKeyword(normalize(condition.getTitleOrContentKeyword()))
+                .publishers(normalize(condition.getPublishers()))
+                .categories((condition.getCategories() != null) ? condition.getCategories().stream().filter(Objects::nonNull).distinct().sorted().toList() : List.of())
+                .build();
+    }
+
+    //구분자로 이어 붙이지 않고 목록 그대로 키로 사용하므로, 구분자가 포함된 키워드도 다른 키워드 목록과 충돌하지 않음
+    private static List<String> normalize(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    //검색 결과에 영향을 주는 조건 전체, 커서 페이징은 page를 사용하지 않으므로 키에서 제외(값이 null일 수 있으므로 Arrays.asList)
+    private List<Object> keyOf(NewsSearchCondition condition) {
+        boolean cursorPaging = condition.getPagingMode() == PagingMode.CURSOR;
+        return Arrays.asList(version.get(),
+                condition.getTitleKeyword(), condition.getContentKeyword(), condition.getTitleOrContentKeyword(),
+                condition.getPublishers(), condition.getCategories(), condition.getStartDate(), condition.getEndDate(),
+                decimal(condition.getMinHsScore()), decimal(condition.getMaxHsScore()),
+                decimal(condition.getMinFsScore()), decimal(condition.getMaxFsScore()),
+                condition.getMinLikes(), condition.getMaxLikes(), condition.getMinDislikes(), condition.getMaxDislikes(),
+                condition.getMinComments(), condition.getMaxComments(), condition.getMinViews(), condition.getMaxViews(),
+                condition.getMinRatingCount(), condition.getMaxRatingCount(),
+                decimal(condition.getMinRating()), decimal(condition.getMaxRating()),
+                condition.getSortBy(), condition.getSortDirection(), condition.getPagingMode(), condition.getSize(),
+                cursorPaging ? null : condition.getPage(), cursorPaging ? condition.getCursor() : null);
+    }
+
+    //BigDecimal.equals는 scale까지 비교하므로 4.0과 4.00이 같은 키가 되도록 정리
+    private static BigDecimal decimal(BigDecimal value) {
+        return (value != null) ? value.stripTrailingZeros() : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.facticle.news.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 뉴스의 카운터(좋아요, 싫어요, 댓글 수, 조회 수, 평점)가 변경되었음을 알리는 이벤트
+ * OpenSearch를 사용하는 프로필에서는 NewsCounterChangeTracker가 받아서 색인된 카운터를 주기적으로 갱신
+ */
+@Getter
+@RequiredArgsConstructor
+public class NewsCounterChangedEvent {
+    private final List<Long> newsIds;
+
+    public static NewsCounterChangedEvent of(Long newsId) {
+        return new NewsCounterChangedEvent(List.of(newsId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.news.dto.GetNewsDto;
+import com.example.facticle.news.entity.News;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 뉴스 상세 정보 로컬 캐시
+ * 제목, 요약, 점수, 점수 근거 등은 크롤링 서버가 저장한 뒤로 바뀌지 않으므로 캐시해두고,
+ * 좋아요/싫어요/댓글/조회 수/평점 같은 카운터는 매 요청마다 가벼운 쿼리(findNewsCounters)로 조회해 덮어씀
+ * 따라서 NewsService의 쓰기 작업(리액션, 평점, 댓글 등)이 캐시를 무효화할 필요가 없음
+ * 뉴스가 삭제된 경우(카운터 조회 결과 없음)에만 invalidate
+ * hit/miss 등의 통계는 cache.* 메트릭(cache=newsDetail)으로 노출
+ */
+@Component
+public class NewsDetailCache {
+    private final Cache<Long, GetNewsDto> cache;
+
+    public NewsDetailCache(@Value("${news.detail-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${news.detail-cache.expire-after-write-minutes:30}") long expireAfterWriteMinutes,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "newsDetail");
+    }
+
+    /**
+     * 캐시된 값은 여러 요청이 공유하므로 직접 수정하지 말고 GetNewsDto.withCounters로 복사해서 사용
+     */
+    public GetNewsDto getIfPresent(Long newsId) {
+        return cache.getIfPresent(newsId);
+    }
+
+    public void put(News news) {
+        cache.put(news.getNewsId(), GetNewsDto.from(news));
+    }
+
+    public void invalidate(Long newsId) {
+        cache.invalidate(newsId);
+    }
+}
@@ -12,6 +12,8 @@ import com.example.facticle.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,44 +29,73 @@ import java.util.stream.Collectors;
 @Transactional
 @RequiredArgsConstructor
 public class NewsService {
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     private final NewsRepository newsRepository;
     private final NewsInteractionRepository newsInteractionRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final CommentInteractionRepository commentInteractionRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final NewsDetailCache newsDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GetNewsResponseDto getNews(Long newsId, Long userId, String viewedNewsIdsCookie, HttpServletResponse response) {
-        //일단 일반적인 방식으로 조회하는 방식을 사용
-        //추후 성능일 비교하고 페치조인을 사용하는 것이 적합한 지 비교 후 상황에 맞게 리패토링
-
-        //유저 조회
-        User user = null;
-        if (userId != null) {
-            user = userRepository.findById(userId)
-                    .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("userId", "user not found")));
+        //제목, 요약, 점수 근거 등 바뀌지 않는 정보는 NewsDetailCache에서 가져오고, 카운터만 가볍게 조회해서 덮어씀
+        //캐시에 없다면 뉴스와 유저의 NewsInteraction을 한 번의 쿼리로 조회한 뒤 캐시에 저장
+        //유저는 JWT 인증을 통과한 userId이므로 매번 조회하지 않고, 새 NewsInteraction 저장 시에만 존재 여부를 확인한 뒤 프록시(getReferenceById)로 사용
+        GetNewsDto getNewsDto;
+        NewsInteraction interaction;
+        News news;
+
+        GetNewsDto cached = newsDetailCache.getIfPresent(newsId);
+        if (cached != null) {
+            NewsCounterDto newsCounterDto = newsRepository.findNewsCounters(newsId, userId)
+                    .orElseThrow(() -> {
+                        //캐시에는 있지만 삭제된 뉴스
+                        newsDetailCache.invalidate(newsId);
+                        return new InvalidInputException("invalid input", Map.of("newsId", "news not found"));
+                    });
+            getNewsDto = cached.withCounters(newsCounterDto);
+            interaction = newsCounterDto.getNewsInteraction();
+            news = null;
+        } else if (userId != null) {
+            NewsWithInteractionDto newsWithInteraction = newsRepository.findNewsWithInteraction(newsId, userId)
+                    .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("newsId", "news not found")));
+            news = newsWithInteraction.getNews();
+            interaction = newsWithInteraction.getNewsInteraction();
+            newsDetailCache.put(news);
+            getNewsDto = GetNewsDto.from(news);
+        } else {
+            news = newsRepository.findById(newsId)
+                    .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("newsId", "news not found")));
+            interaction = null;
+            newsDetailCache.put(news);
+            getNewsDto = GetNewsDto.from(news);
         }
 
-        //뉴스 조회
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("newsId", "news not found")));
-
         //조회 수 관련 로직
         //유저라면 NewsInteraction 존재 여부로 판단
         //비회원이라면 쿠키로 판단
         boolean shouldIncreaseViewCount = false;
 
-        if(user != null){
-            Optional<NewsInteraction> optionalInteraction = newsInteractionRepository.findByUserAndNews(user, news);
-            if(optionalInteraction.isPresent()){
-                optionalInteraction.get().updateViewedAt(LocalDateTime.now());
+        if(userId != null){
+            if(interaction != null){
+                interaction.updateViewedAt(LocalDateTime.now());
             }else{
+                //탈퇴 등으로 삭제된 유저의 토큰이 아직 유효한 경우, 저장 시 FK 위반(500) 대신 기존과 같은 입력 오류로 응답
+                if (!userRepository.existsById(userId)) {
+                    throw new InvalidInputException("invalid input", Map.of("userId", "user not found"));
+                }
                 shouldIncreaseViewCount = true;
-                NewsInteraction newInteraction = NewsInteraction.builder()
+                //연관관계 편의 메서드(updateUser, updateNews)를 사용하면 User 프록시와 News의 newsInteractions 컬렉션이 초기화되므로 builder로 직접 설정
+                //캐시 hit으로 News를 조회하지 않은 경우엔 프록시를 사용
+                interaction = NewsInteraction.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .news((news != null) ? news : newsRepository.getReferenceById(newsId))
                         .viewedAt(LocalDateTime.now())
                         .build();
-                newInteraction.updateUser(user);
-                newInteraction.updateNews(news);
-                newsInteractionRepository.save(newInteraction);
+                newsInteractionRepository.save(interaction);
             }
         }else{
             Set<String> viewedIds = new HashSet<>();
@@ -86,149 +117,116 @@ public class NewsService {
             }
         }
 
-        //동시성 문제를 방지하기 위해 조회수를 바로 1 증가
+        //조회 수는 바로 UPDATE하지 않고 버퍼에 모아뒀다가 주기적으로 반영(ViewCountBuffer 참고)
         if (shouldIncreaseViewCount) {
-            newsRepository.incrementViewCount(newsId);
+            viewCountBuffer.increment(newsId);
         }
 
-
-        //뉴스 정보 조회(viewCount 반영을 위해 새로 조회)
-        news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("newsId", "news not found")));
-        GetNewsDto getNewsDto = GetNewsDto.from(news);
-
+        //아직 DB에 반영되지 않은 조회 수를 더해서 응답
+        getNewsDto.addPendingViewCount(viewCountBuffer.getPendingCount(newsId));
 
         //유저가 존재한다면, 해당 유저의 뉴스 인터랙션 정보를 추가
-        GetNewsInteractionDto getNewsInteractionDto = null;
-        if(user != null){
-            getNewsInteractionDto = newsInteractionRepository.findByUserAndNews(user, news)
-                    .map(GetNewsInteractionDto::from)
-                    .orElse(null);
-        }
+        GetNewsInteractionDto getNewsInteractionDto = (interaction != null) ? GetNewsInteractionDto.from(interaction) : null;
 
         return GetNewsResponseDto.builder()
-                .isUser(user != null)
+                .isUser(userId != null)
                 .getNewsDto(getNewsDto)
                 .getNewsInteractionDto(getNewsInteractionDto)
                 .build();
     }
 
+    /**
+     * 뉴스의 최상위 댓글을 작성 순서(LATEST) 또는 추천순(TOP)으로 커서 페이징 조회, 답글은 답글 수만 포함(getReplies로 따로 조회)
+     */
     @Transactional(readOnly = true)
-    public GetCommentResponseDto getCommentByNews(Long newsId, Long userId){
-        User user = null;
-        if (userId != null) {
-            user = userRepository.findById(userId)
-                    .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("userId", "user not found")));
+    public GetCommentResponseDto getComments(Long newsId, Long userId, CommentSortBy sortBy, String cursor, int size){
+        validateCommentPageSize(size);
+        CommentCursor commentCursor = CommentCursor.decode(cursor, sortBy);
+        if (!newsRepository.existsById(newsId)) {
+            throw new InvalidInputException("invalid input", Map.of("newsId", "news not found"));
         }
 
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("newsId", "news not found")));
+        //size + 1개를 조회해서 다음 페이지 존재 여부 확인
+        List<Comment> comments = commentRepository.findRootComments(newsId, sortBy, commentCursor, size + 1);
+        return toCommentResponse(userId, comments, sortBy, size);
+    }
 
-        //댓글 정보 조회
-        List<Comment> comments = commentRepository.findAllByNewsWithUser(news);
-        List<GetCommentDto> getCommentDtos = new ArrayList<>();
-        if(comments != null && !comments.isEmpty()){
-            getCommentDtos = buildCommentDtoTree(comments);
+    /**
+     * 댓글의 답글을 작성 순서대로 커서 페이징 조회
+     */
+    @Transactional(readOnly = true)
+    public GetCommentResponseDto getReplies(Long newsId, Long commentId, Long userId, String cursor, int size){
+        validateCommentPageSize(size);
+        CommentCursor commentCursor = CommentCursor.decode(cursor, CommentSortBy.LATEST);
+        Comment parentComment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("commentId", "comment not found")));
+        if(!parentComment.getNews().getNewsId().equals(newsId)){
+            throw new InvalidInputException("news not matched",  Map.of("newsId", "news not matched"));
         }
 
-        //유저가 존재한다면, 댓글 인터랙션 정보를 추가
-        List<GetCommentInteractionDto> getCommentInteractionDtos = new ArrayList<>();
-        if(user != null){
-            if(comments != null && !comments.isEmpty()){
-                List<CommentInteraction> commentInteractions = commentInteractionRepository.findAllByUserAndComments(user, comments);
-
-                getCommentInteractionDtos = commentInteractions.stream()
-                        .filter(ci -> ci.getReaction() != null)
-                        .map(GetCommentInteractionDto::from)
-                        .collect(Collectors.toList());
-            }
-        }
+        List<Comment> comments = commentRepository.findReplies(newsId, commentId, commentCursor, size + 1);
+        return toCommentResponse(userId, comments, CommentSortBy.LATEST, size);
+    }
 
-        return GetCommentResponseDto.builder()
-                .isUser(user != null)
-                .getCommentDtos(getCommentDtos)
-                .getCommentInteractionDtos(getCommentInteractionDtos)
-                .build();
+    @Transactional(readOnly = true)
+    public Page<NewsListResponseDto> getNewsList(NewsSearchCondition condition){
+        return newsRepository.searchNewsPage(condition);
     }
 
     @Transactional(readOnly = true)
-    public List<News> getNewsList(NewsSearchCondition condition){
-        return newsRepository.searchNewsList(condition);
+    public NewsCursorSlice getNewsListByCursor(NewsSearchCondition condition){
+        return newsRepository.searchNewsListByCursor(condition);
     }
 
 
     public void likeNews(Long newsId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidInputException("user not found", Map.of("userId", "user not exist")));
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("news not found", Map.of("newsId", "news not exist")));
-        NewsInteraction newsInteraction = newsInteractionRepository.findByUserAndNews(user, news)
-                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
+        NewsInteraction newsInteraction = findNewsInteractionForUpdate(newsId, userId);
 
         ReactionType previousReaction = newsInteraction.getReaction();
         if(previousReaction == ReactionType.LIKE){
             throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is already Like"));
         }
 
-        if (previousReaction == ReactionType.HATE) {
-            news.decreaseHateCount();
-        }
-
         newsInteraction.updateReaction(ReactionType.LIKE, LocalDateTime.now());
-        news.increaseLikeCount();
+        newsRepository.applyReactionDelta(newsId, 1, (previousReaction == ReactionType.HATE) ? -1 : 0);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
     }
 
     public void unlikeNews(Long newsId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidInputException("user not found", Map.of("userId", "user not exist")));
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("news not found", Map.of("newsId", "news not exist")));
-        NewsInteraction newsInteraction = newsInteractionRepository.findByUserAndNews(user, news)
-                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
+        NewsInteraction newsInteraction = findNewsInteractionForUpdate(newsId, userId);
 
         if(newsInteraction.getReaction() != ReactionType.LIKE){
             throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is not Like"));
         }
 
         newsInteraction.updateReaction(null, null);
-        news.decreaseLikeCount();
+        newsRepository.applyReactionDelta(newsId, -1, 0);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
     }
 
     public void hateNews(Long newsId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidInputException("user not found", Map.of("userId", "user not exist")));
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("news not found", Map.of("newsId", "news not exist")));
-        NewsInteraction newsInteraction = newsInteractionRepository.findByUserAndNews(user, news)
-                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
+        NewsInteraction newsInteraction = findNewsInteractionForUpdate(newsId, userId);
 
         ReactionType previousReaction = newsInteraction.getReaction();
         if(previousReaction == ReactionType.HATE){
             throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is already hate"));
         }
 
-        if(previousReaction == ReactionType.LIKE){
-            news.decreaseLikeCount();
-        }
-
         newsInteraction.updateReaction(ReactionType.HATE, LocalDateTime.now());
-        news.increaseHateCount();
+        newsRepository.applyReactionDelta(newsId, (previousReaction == ReactionType.LIKE) ? -1 : 0, 1);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
     }
 
     public void unhateNews(Long newsId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidInputException("user not found", Map.of("userId", "user not exist")));
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("news not found", Map.of("newsId", "news not exist")));
-        NewsInteraction newsInteraction = newsInteractionRepository.findByUserAndNews(user, news)
-                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
+        NewsInteraction newsInteraction = findNewsInteractionForUpdate(newsId, userId);
 
         if(newsInteraction.getReaction() != ReactionType.HATE){
             throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is not hate"));
         }
 
         newsInteraction.updateReaction(null, null);
-        news.decreaseHateCount();
+        newsRepository.applyReactionDelta(newsId, 0, -1);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
     }
 
     public GetCommentDto createComment(Long newsId, Long userId, String content) {
@@ -244,7 +242,9 @@ public class NewsService {
         comment.updateNews(news);
 
         commentRepository.save(comment);
-        news.increaseCommentCount();
+        comment.initPath();
+        newsRepository.applyCommentCountDelta(newsId, 1);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
 
         return GetCommentDto.from(comment);
     }
@@ -276,7 +276,13 @@ public class NewsService {
             throw new InvalidInputException("news not matched",  Map.of("newsId", "news not matched"));
         }
 
-        comment.getNews().decreaseCommentCount();
+        //하위 답글도 cascade로 함께 삭제되므로 삭제되는 댓글 수만큼 댓글 수를 감소
+        long deletedCount = commentRepository.countByPathStartingWith(comment.getPath());
+        if (comment.getParentComment() != null) {
+            commentRepository.applyReplyCountDelta(comment.getParentComment().getCommentId(), -1);
+        }
+        newsRepository.applyCommentCountDelta(newsId, (int) -deletedCount);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
 
         commentRepository.delete(comment);
     }
@@ -292,6 +298,9 @@ public class NewsService {
         if(!parentComment.getNews().equals(news)){
             throw new InvalidInputException("news not matched",  Map.of("newsId", "news not matched"));
         }
+        if(parentComment.getDepth() >= Comment.MAX_DEPTH){
+            throw new InvalidInputException("reply is not available", Map.of("parentCommentId", "reply depth cannot exceed " + Comment.MAX_DEPTH));
+        }
 
         Comment comment = Comment.builder()
                 .content(content)
@@ -302,7 +311,10 @@ public class NewsService {
         parentComment.addReplies(comment);
 
         commentRepository.save(comment);
-        news.increaseCommentCount();
+        comment.initPath();
+        commentRepository.applyReplyCountDelta(parentCommentId, 1);
+        newsRepository.applyCommentCountDelta(newsId, 1);
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
 
         return GetCommentDto.from(comment);
     }
@@ -323,11 +335,8 @@ public class NewsService {
                 throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is already Like"));
             }
 
-            if(previousReaction == ReactionType.HATE){
-                comment.decreaseHateCount();
-            }
             commentInteraction.updateReaction(ReactionType.LIKE, LocalDateTime.now());
-            comment.increaseLikeCount();
+            commentRepository.applyReactionDelta(commentId, 1, previousReaction == ReactionType.HATE ? -1 : 0);
 
         }else{
             CommentInteraction commentInteraction = CommentInteraction.builder()
@@ -338,7 +347,7 @@ public class NewsService {
             commentInteraction.updateComment(comment);
 
             commentInteractionRepository.save(commentInteraction);
-            comment.increaseLikeCount();
+            commentRepository.applyReactionDelta(commentId, 1, 0);
         }
     }
 
@@ -355,7 +364,7 @@ public class NewsService {
             throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is not Like"));
         }
         commentInteraction.updateReaction(null, null);
-        comment.decreaseLikeCount();
+        commentRepository.applyReactionDelta(commentId, -1, 0);
     }
 
     public void hateComment(Long commentId, Long userId) {
@@ -374,11 +383,8 @@ public class NewsService {
                 throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is already Hate"));
             }
 
-            if(previousReaction == ReactionType.LIKE){
-                comment.decreaseLikeCount();
-            }
             commentInteraction.updateReaction(ReactionType.HATE, LocalDateTime.now());
-            comment.increaseHateCount();
+            commentRepository.applyReactionDelta(commentId, previousReaction == ReactionType.LIKE ? -1 : 0, 1);
 
         }else{
             CommentInteraction commentInteraction = CommentInteraction.builder()
@@ -389,7 +395,7 @@ public class NewsService {
             commentInteraction.updateComment(comment);
 
             commentInteractionRepository.save(commentInteraction);
-            comment.increaseHateCount();
+            commentRepository.applyReactionDelta(commentId, 0, 1);
         }
     }
 
@@ -406,39 +412,28 @@ public class NewsService {
             throw new InvalidInputException("reaction is not available", Map.of("ReactionType" ,"user's ReactionType is not Hate"));
         }
         commentInteraction.updateReaction(null, null);
-        comment.decreaseHateCount();
+        commentRepository.applyReactionDelta(commentId, 0, -1);
     }
 
     public void rateNews(Long newsId, Long userId, BigDecimal rating) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidInputException("user not found", Map.of("userId", "user not exist")));
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("news not found", Map.of("newsId", "news not exist")));
-        NewsInteraction newsInteraction = newsInteractionRepository.findByUserAndNews(user, news)
-                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
+        NewsInteraction newsInteraction = findNewsInteractionForUpdate(newsId, userId);
 
         BigDecimal previousRating = newsInteraction.getRating();
 
         if (!previousRating.equals(BigDecimal.valueOf(0.0))) {
             // 기존 평점을 빼고 새 평점을 더함
-            news.decreaseRating(previousRating);
-            news.increaseRating(rating);
+            newsRepository.applyRatingDelta(newsId, 0, rating.subtract(previousRating));
         } else {
             // 새로운 평가일 경우
-            news.increaseRatingCount();
-            news.increaseRating(rating);
+            newsRepository.applyRatingDelta(newsId, 1, rating);
         }
 
         newsInteraction.updateRating(rating, LocalDateTime.now());
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
     }
 
     public void deleteRateNews(Long newsId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidInputException("user not found", Map.of("userId", "user not exist")));
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new InvalidInputException("news not found", Map.of("newsId", "news not exist")));
-        NewsInteraction newsInteraction = newsInteractionRepository.findByUserAndNews(user, news)
-                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
+        NewsInteraction newsInteraction = findNewsInteractionForUpdate(newsId, userId);
 
         if(newsInteraction.getRating().equals(BigDecimal.valueOf(0.0))){
             throw new InvalidInputException("rating is not available", Map.of("rating" ,"user's rating does not exist"));
@@ -446,32 +441,64 @@ public class NewsService {
         BigDecimal previousRating = newsInteraction.getRating();
 
         newsInteraction.updateRating(BigDecimal.valueOf(0.0), null);
-        news.decreaseRatingCount();
-        news.decreaseRating(previousRating);
+        newsRepository.applyRatingDelta(newsId, -1, previousRating.negate());
+        eventPublisher.publishEvent(NewsCounterChangedEvent.of(newsId));
+    }
+
+    /**
+     * 리액션/평점 변경 대상 NewsInteraction을 락을 걸고 조회
+     * 뉴스의 카운터는 엔티티가 아닌 applyReactionDelta/applyRatingDelta로 반영하므로 User, News는 따로 조회하지 않음
+     * (뉴스 상세 조회 시 NewsInteraction이 생성되므로, 인터랙션이 있다면 유저와 뉴스도 존재)
+     */
+    private NewsInteraction findNewsInteractionForUpdate(Long newsId, Long userId) {
+        return newsInteractionRepository.findByUserIdAndNewsIdForUpdate(userId, newsId)
+                .orElseThrow(() -> new InvalidInputException("newsInteraction not found", Map.of("newsInteraction", "user does not have any Interaction for news")));
     }
 
-    private List<GetCommentDto> buildCommentDtoTree(List<Comment> comments) {
-        Map<Long, GetCommentDto> dtoMap = new LinkedHashMap<>();
-        List<GetCommentDto> roots = new ArrayList<>();
+    private void validateCommentPageSize(int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            throw new InvalidInputException("invalid input", Map.of("size", "size must be between 1 and " + MAX_COMMENT_PAGE_SIZE));
+        }
+    }
 
-        for (Comment comment : comments) {
-            GetCommentDto getCommentDto = GetCommentDto.from(comment);
-            dtoMap.put(getCommentDto.getCommentId(), getCommentDto);
-            if (getCommentDto.getParentCommentId() == null) {
-                roots.add(getCommentDto);
-            }
+    /**
+     * 조회한 댓글 페이지(size + 1개)를 응답으로 변환
+     * 답글 수는 Comment의 replyCount를 사용하고, 유저의 댓글 인터랙션은 페이지의 댓글 id로 한 번에 조회
+     */
+    private GetCommentResponseDto toCommentResponse(Long userId, List<Comment> comments, CommentSortBy sortBy, int size) {
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = (sortBy == CommentSortBy.TOP)
+                    ? CommentCursor.top(last.getBestScore(), last.getCommentId()).encode()
+                    : CommentCursor.latest(last.getCreatedAt(), last.getCommentId()).encode();
         }
 
-        for (Comment comment : comments) {
-            if (comment.getParentComment() != null) {
-                Long parentId = comment.getParentComment().getCommentId();
-                GetCommentDto parentDto = dtoMap.get(parentId);
-                if (parentDto != null) {
-                    parentDto.getReplies().add(dtoMap.get(comment.getCommentId()));
-                }
+        List<Long> commentIds = comments.stream().map(Comment::getCommentId).toList();
+        List<GetCommentDto> getCommentDtos = comments.stream()
+                .map(GetCommentDto::from)
+                .collect(Collectors.toList());
+
+        //유저가 존재한다면, 댓글 인터랙션 정보를 추가
+        User user = null;
+        List<GetCommentInteractionDto> getCommentInteractionDtos = new ArrayList<>();
+        if (userId != null) {
+            user = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidInputException("invalid input", Map.of("userId", "user not found")));
+            if (!comments.isEmpty()) {
+                //현재 페이지의 댓글에 대한 유저의 반응만 조회
+                getCommentInteractionDtos = commentInteractionRepository.findReactionsByUserAndComments(userId, commentIds).stream()
+                        .map(reaction -> GetCommentInteractionDto.from(userId, reaction))
+                        .collect(Collectors.toList());
             }
         }
 
-        return roots;
+        return GetCommentResponseDto.builder()
+                .isUser(user != null)
+                .getCommentDtos(getCommentDtos)
+                .getCommentInteractionDtos(getCommentInteractionDtos)
+                .nextCursor(nextCursor)
+                .build();
     }
 }
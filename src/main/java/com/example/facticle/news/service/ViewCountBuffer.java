@@ -0,0 +1,150 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.news.repository.jpa.NewsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 수 write-behind 버퍼
+ * 뉴스 조회마다 news row에 UPDATE를 날리면 인기 기사에서 row lock 경합이 발생하므로,
+ * 증가분을 메모리(newsId 별 LongAdder)에 모아두고 일정 주기마다 묶어서 DB에 반영
+ * 아직 반영되지 않은 증가분은 getPendingCount로 조회해 응답에 더해줌
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+    private final NewsRepository newsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //인기 기사의 동시 증가가 하나의 값(bin lock, CAS)에서 경합하지 않도록 LongAdder(striped counter)에 누적
+    //flush는 sumThenReset으로 증가분을 가져가고, 이전 flush 이후 증가가 없는 엔트리만 제거해서 엔트리 수를 최근 조회된 뉴스 수로 제한
+    private final ConcurrentHashMap<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    //제거한 adder, 제거 직전에 adder를 가져간 스레드가 제거 이후에 증가시킬 수 있으므로 RETIRED_GRACE 동안은 flush마다 계속 확인
+    private static final Duration RETIRED_GRACE = Duration.ofSeconds(10);
+    private final Deque<RetiredViewCount> retiredViewCounts = new ArrayDeque<>();
+
+    //마지막으로 flush를 확인한 newsId, 엔트리가 limit보다 많을 때 앞쪽 뉴스만 계속 반영되지 않도록 다음 flush는 이 id 다음부터 시작
+    private long lastFlushedNewsId = 0L;
+
+    @Value("${news.view-count.max-flush-size:1000}")
+    private int maxFlushSize; //한 번의 flush에서 반영할 최대 뉴스 수
+
+    public void increment(Long newsId) {
+        adderOf(newsId).increment();
+    }
+
+    public long getPendingCount(Long newsId) {
+        LongAdder adder = pendingViewCounts.get(newsId);
+        return (adder != null) ? adder.sum() : 0L;
+    }
+
+    //아직 반영되지 않은 뉴스 수
+    int getPendingNewsCount() {
+        return pendingViewCounts.size();
+    }
+
+    @Scheduled(fixedDelayString = "${news.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flush(maxFlushSize);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아있는 증가분을 모두 반영
+     */
+    @PreDestroy
+    public void drain() {
+        int flushed;
+        do {
+            flushed = flush(maxFlushSize);
+        } while (flushed > 0);
+    }
+
+    /**
+     * 최대 limit개의 뉴스에 대한 증가분을 DB에 반영하고, 반영에 성공한 뉴스 수를 반환
+     * 반영에 실패한 증가분은 다시 버퍼에 되돌려 다음 flush에서 재시도
+     */
+    synchronized int flush(int limit) {
+        Map<Long, Long> deltas = new HashMap<>();
+        long now = System.nanoTime();
+        for (RetiredViewCount retired : retiredViewCounts) {
+            long late = retired.adder.sumThenReset();
+            if (late > 0) {
+                deltas.merge(retired.newsId, late, Long::sum);
+            }
+        }
+        while (!retiredViewCounts.isEmpty() && now - retiredViewCounts.peekFirst().retiredAtNanos > RETIRED_GRACE.toNanos()) {
+            retiredViewCounts.pollFirst();
+        }
+
+        List<Long> pendingNewsIds = new ArrayList<>(pendingViewCounts.keySet());
+        Collections.sort(pendingNewsIds);
+
+        int searched = Collections.binarySearch(pendingNewsIds, lastFlushedNewsId + 1);
+        int start = pendingNewsIds.isEmpty() ? 0 : (searched >= 0 ? searched : -searched - 1) % pendingNewsIds.size();
+        for (int i = 0; i < pendingNewsIds.size() && deltas.size() < limit; i++) {
+            Long newsId = pendingNewsIds.get((start + i) % pendingNewsIds.size());
+            LongAdder adder = pendingViewCounts.get(newsId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.merge(newsId, delta, Long::sum);
+            } else if (pendingViewCounts.remove(newsId, adder)) {
+                //이전 flush 이후 조회되지 않은 뉴스, 다음 조회는 새 adder에 누적
+                retiredViewCounts.addLast(new RetiredViewCount(newsId, adder, now));
+            }
+            lastFlushedNewsId = newsId;
+        }
+
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        //증가량이 같은 뉴스끼리 묶어서 UPDATE 수를 줄임
+        Map<Long, List<Long>> newsIdsByDelta = new HashMap<>();
+        deltas.forEach((newsId, delta) -> newsIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(newsId));
+
+        int flushed = 0;
+        for (Map.Entry<Long, List<Long>> entry : newsIdsByDelta.entrySet()) {
+            long delta = entry.getKey();
+            List<Long> newsIds = entry.getValue();
+            try {
+                newsRepository.increaseViewCounts(newsIds, Math.toIntExact(delta));
+                flushed += newsIds.size();
+                eventPublisher.publishEvent(new NewsCounterChangedEvent(newsIds));
+            } catch (RuntimeException e) {
+                log.warn("failed to flush view counts (delta: {}, newsIds: {})", delta, newsIds.size(), e);
+                newsIds.forEach(newsId -> adderOf(newsId).add(delta));
+            }
+        }
+
+        log.debug("flushed view counts of {} news", flushed);
+        return flushed;
+    }
+
+    //이미 있는 엔트리는 lock 없이 조회하고, 없을 때만 computeIfAbsent로 생성
+    private LongAdder adderOf(Long newsId) {
+        LongAdder adder = pendingViewCounts.get(newsId);
+        return (adder != null) ? adder : pendingViewCounts.computeIfAbsent(newsId, id -> new LongAdder());
+    }
+
+    @RequiredArgsConstructor
+    private static class RetiredViewCount {
+        private final Long newsId;
+        private final LongAdder adder;
+        private final long retiredAtNanos;
+    }
+}
@@ -3,22 +3,29 @@ package com.example.facticle.user.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@ToString(of = {"tokenId", "hashedRefreshToken", "isRevoked", "issuedAt", "expiresAt"})
+@ToString(of = {"tokenId", "jti", "isRevoked", "issuedAt", "expiresAt"})
 @Table(name = "refresh_tokens",
     indexes = {
             @Index(name = "idx_user_id", columnList = "user_id"),
-            @Index(name = "idx_expires_at", columnList = "expiresAt")
+            @Index(name = "idx_expires_at", columnList = "expiresAt"),
+            @Index(name = "idx_is_revoked", columnList = "isRevoked"),
+            @Index(name = "uk_refresh_tokens_jti", columnList = "jti", unique = true)
     }
 )
 public class RefreshToken {
-    //추후 hashedRefreshToken에 따른 성능을 측정해보고 문제가 된다면, 토큰의 UUID 값을 활용하도록 리팩토링 고려
+    //refresh token은 충분히 긴 랜덤 값(UUID jti + 서명)이므로 BCrypt 같은 느린 해시가 필요 없음
+    //jti(unique index)로 한 건을 조회하고, 토큰의 SHA-256 fingerprint를 상수 시간 비교로 검증
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,8 +35,11 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false)
-    private String hashedRefreshToken; //refresh token은 노출될 경우 큰 보안문제 발생 가능, hash화 하여 저장
+    @Column(nullable = false, length = 36)
+    private String jti; //refresh token의 jti(UUID)
+
+    @Column(nullable = false, length = 64)
+    private String tokenFingerprint; //refresh token은 노출될 경우 큰 보안문제 발생 가능, 원문 대신 SHA-256 hex를 저장
 
     @Builder.Default
     private boolean isRevoked = false;
@@ -48,6 +58,27 @@ public class RefreshToken {
         return !isRevoked && LocalDateTime.now().isBefore(expiresAt);
     }
 
+    /**
+     * 요청으로 온 refresh token이 저장된 토큰과 같은지 fingerprint를 상수 시간으로 비교
+     */
+    public boolean matches(String refreshToken){
+        return MessageDigest.isEqual(
+                fingerprint(refreshToken).getBytes(StandardCharsets.US_ASCII),
+                tokenFingerprint.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * refresh token의 SHA-256 fingerprint(hex)
+     */
+    public static String fingerprint(String refreshToken){
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
     protected void setUser(User user) {
         this.user = user;
     }
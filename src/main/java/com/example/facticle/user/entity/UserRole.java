@@ -1,5 +1,41 @@
 package com.example.facticle.user.entity;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public enum UserRole {
-    USER, ADMIN
+    USER, ADMIN;
+
+    //역할별 권한 목록은 불변이므로 한 번만 생성해서 공유(요청마다 SimpleGrantedAuthority를 생성하지 않도록)
+    private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + name()));
+
+    //JWT의 auth 클레임 값("ROLE_USER" 등) -> 권한 목록
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_CLAIM = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(role -> role.authorities.get(0).getAuthority(), role -> role.authorities));
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * auth 클레임 값에 해당하는 미리 생성된 권한 목록, 역할 하나에 해당하지 않는 값이라면 ,로 나눠 새로 생성
+     */
+    public static List<GrantedAuthority> authoritiesOf(String authClaim) {
+        if (authClaim == null || authClaim.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<GrantedAuthority> authorities = AUTHORITIES_BY_CLAIM.get(authClaim);
+        if (authorities != null) {
+            return authorities;
+        }
+        return Arrays.stream(authClaim.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
 }
@@ -8,29 +8,57 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    //현재는 비즈니스 요구사항에 맞게 다음과 같이 메서드 설계
-    //추후 성능적인 요소를 고려하여 리팩토링
-    //(조회 및 update 성능 향상, user기반 CRUD가 많으므로 Index 추가, 너무 많은 refresh token이 쌓이지 않도록 기간이 만료된 refresh token 주기적으로 삭제, ...)
+    //만료, revoke된 refresh token은 RefreshTokenReaper가 주기적으로 삭제
 
     List<RefreshToken> findByUser(User user);
 
     /**
-     * 특정 사용자의 모든 Refresh Token을 무효화 (RTR 적용)
+     * 특정 사용자의 유효한 Refresh Token을 모두 무효화 (RTR 적용)
+     * 이미 revoke되었거나 만료된 토큰은 다시 update하지 않음(reaper가 삭제할 대상)
      */
     @Modifying
     @Transactional
-    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.user = :user")
-    void revokeAllByUser(User user); //벌크 연산 찾아보고 필요 시 도입
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.user = :user AND rt.isRevoked = false AND rt.expiresAt > CURRENT_TIMESTAMP")
+    void revokeAllByUser(User user);
 
     /**
      * 특정 사용자의 가장 최근에 발급된 유효한 Refresh Token 찾기
      */
     @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND rt.isRevoked = false AND rt.expiresAt > CURRENT_TIMESTAMP ORDER BY rt.expiresAt DESC")
     Optional<RefreshToken> findValidTokenByUser(User user);
+
+    /**
+     * jti로 Refresh Token 조회 (uk_refresh_tokens_jti)
+     */
+    Optional<RefreshToken> findByJti(String jti);
+
+    /**
+     * 만료된 Refresh Token을 최대 limit개 삭제 (idx_expires_at)
+     * 한 번에 많은 row를 지우면 lock이 오래 유지되므로 LIMIT으로 나눠서 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now ORDER BY expires_at LIMIT :limit", nativeQuery = true)
+    int deleteExpired(LocalDateTime now, int limit);
+
+    /**
+     * revoke된 Refresh Token을 최대 limit개 삭제 (idx_is_revoked)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE is_revoked = true LIMIT :limit", nativeQuery = true)
+    int deleteRevoked(int limit);
+
+    /**
+     * 가장 오래된 만료 시간, reaper가 삭제하지 못하고 남아있는 만료 토큰이 얼마나 오래되었는지(lag) 확인하는 용도
+     */
+    @Query("SELECT MIN(rt.expiresAt) FROM RefreshToken rt")
+    Optional<LocalDateTime> findMinExpiresAt();
 }
@@ -0,0 +1,96 @@
+package com.example.facticle.user.service;
+
+import com.example.facticle.user.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 만료되었거나 revoke된 refresh token 주기적 삭제
+ * 로그인, 토큰 재발급마다 refresh_tokens에 row가 추가되므로 삭제하지 않으면 테이블이 계속 커짐
+ * 한 번의 DELETE가 오래 lock을 잡지 않도록 chunk-size 단위로(LIMIT) 나눠서 삭제하고, 각 chunk는 별도 트랜잭션으로 커밋
+ * 한 주기에 max-chunks-per-run개까지만 삭제하고 남은 토큰은 다음 주기에 삭제
+ * 삭제한 토큰 수는 refresh.tokens.purged(reason 태그), 가장 오래된 만료 토큰이 남아있는 시간은 refresh.tokens.reaper.lag 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class RefreshTokenReaper {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Counter expiredPurged;
+    private final Counter revokedPurged;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public RefreshTokenReaper(RefreshTokenRepository refreshTokenRepository,
+                              @Value("${jwt.refresh-token-reaper.chunk-size:1000}") int chunkSize,
+                              @Value("${jwt.refresh-token-reaper.max-chunks-per-run:100}") int maxChunksPerRun,
+                              MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.expiredPurged = purgedCounter(meterRegistry, "expired");
+        this.revokedPurged = purgedCounter(meterRegistry, "revoked");
+        Gauge.builder("refresh.tokens.reaper.lag", lagSeconds, AtomicLong::get)
+                .description("삭제되지 않고 남아있는 가장 오래된 만료 refresh token의 만료 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-reaper.interval-ms:60000}")
+    public void purge() {
+        try {
+            int expired = purgeInChunks(() -> refreshTokenRepository.deleteExpired(LocalDateTime.now(), chunkSize));
+            expiredPurged.increment(expired);
+            int revoked = purgeInChunks(() -> refreshTokenRepository.deleteRevoked(chunkSize));
+            revokedPurged.increment(revoked);
+            updateLag();
+            if (expired + revoked > 0) {
+                log.debug("purged refresh tokens (expired: {}, revoked: {})", expired, revoked);
+            }
+        } catch (RuntimeException e) {
+            //다음 주기에 다시 시도
+            log.warn("failed to purge refresh tokens", e);
+        }
+    }
+
+    /**
+     * chunk 단위로 삭제하고 삭제한 row 수를 반환, chunk가 가득 차지 않았다면 더 삭제할 row가 없으므로 종료
+     */
+    private int purgeInChunks(IntSupplier deleteChunk) {
+        int purged = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int deleted = deleteChunk.getAsInt();
+            purged += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now();
+        long lag = refreshTokenRepository.findMinExpiresAt()
+                .filter(minExpiresAt -> minExpiresAt.isBefore(now))
+                .map(minExpiresAt -> Duration.between(minExpiresAt, now).getSeconds())
+                .orElse(0L);
+        lagSeconds.set(lag);
+    }
+
+    private Counter purgedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("refresh.tokens.purged")
+                .description("reaper가 삭제한 refresh token 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
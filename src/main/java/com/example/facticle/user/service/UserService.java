@@ -5,6 +5,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.core.sync.RequestBody;
 import org.springframework.beans.factory.annotation.Value;
+import com.example.facticle.common.authority.JwtParseResult;
 import com.example.facticle.common.authority.JwtTokenProvider;
 import com.example.facticle.common.authority.TokenInfo;
 import com.example.facticle.common.authority.TokenValidationResult;
@@ -18,13 +19,13 @@ import com.example.facticle.user.oauth.SocialAuthProvider;
 import com.example.facticle.user.oauth.SocialAuthProviderFactory;
 import com.example.facticle.user.repository.RefreshTokenRepository;
 import com.example.facticle.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -36,6 +37,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -156,7 +158,8 @@ public class UserService {
         //새로 발급한 refresh token 생성
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
-                .hashedRefreshToken(passwordEncoder.encode(newRefreshToken))
+                .jti(jwtTokenProvider.getJti(newRefreshToken))
+                .tokenFingerprint(RefreshToken.fingerprint(newRefreshToken))
                 .isRevoked(false)
                 .issuedAt(jwtTokenProvider.getIssuedAt(newRefreshToken))
                 .expiresAt(jwtTokenProvider.getExpiresAt(newRefreshToken))
@@ -176,31 +179,34 @@ public class UserService {
      * 리프레시 토큰 검증 후 문제 없을 시 토큰 재발급(RTR 적용)
      */
     public TokenInfo reCreateToken(String passedRefreshToken) {
-        //토큰 유효성 검증
-        TokenValidationResult tokenValidationResult = jwtTokenProvider.validateToken(passedRefreshToken);
-        if(tokenValidationResult == TokenValidationResult.EXPIRED){
+        //토큰 유효성 검증(토큰은 한 번만 파싱하고 이후에는 클레임을 사용)
+        JwtParseResult parseResult = jwtTokenProvider.parseToken(passedRefreshToken);
+        if(parseResult.getResult() == TokenValidationResult.EXPIRED){
             throw new ExpiredTokenException("Refresh token has expired. Please login again.");
-        }else if(tokenValidationResult == TokenValidationResult.INVALID){
+        }else if(parseResult.getResult() == TokenValidationResult.INVALID){
             throw new InvalidTokenException("Invalid refresh token.");
         }
         //refresh token이 아닌 경우
-        if(!jwtTokenProvider.getTokenType(passedRefreshToken).equals("REFRESH")){
+        if(!"REFRESH".equals(parseResult.getTokenType())){
             throw new InvalidTokenException("Invalid refresh token.");
         }
 
-        //적합한 refresh token이라면 user를 찾고 해당 user의 유효한 토큰을 조회
-        Long userId = jwtTokenProvider.getUserId(passedRefreshToken);
+        //적합한 refresh token이라면 user를 찾고 jti로 저장된 토큰을 조회
+        Claims claims = parseResult.getClaims();
+        Long userId = claims.get("userId", Long.class);
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidTokenException("user not found by refresh token"));
 
-
-        RefreshToken storedRefreshToken = refreshTokenRepository.findValidTokenByUser(user)
-                .orElseThrow(() -> { //해당 user의 유효한 토큰이 없는 경우. 비정상적인 접근이라 판단, 모든 유효한 토큰을 중지
+        String jti = claims.getId();
+        RefreshToken storedRefreshToken = (jti == null ? Optional.<RefreshToken>empty() : refreshTokenRepository.findByJti(jti))
+                .orElseThrow(() -> { //저장된 토큰이 없는 경우. 비정상적인 접근이라 판단, 모든 유효한 토큰을 중지
                     refreshTokenRepository.revokeAllByUser(user); //모든 Refresh Token 무효화
                     return new InvalidTokenException("No valid refresh token found.");
                 });
 
-        //요청으로 온 refresh token과 저장되어 있는 유효한 refresh token이 다르면 비정상적인 접근으로 판단
-        if(!passwordEncoder.matches(passedRefreshToken, storedRefreshToken.getHashedRefreshToken())){
+        //다른 user의 토큰이거나, 요청으로 온 토큰과 내용이 다르거나, 이미 revoke(재사용)/만료된 토큰이라면 비정상적인 접근으로 판단
+        if(!storedRefreshToken.getUser().getUserId().equals(userId)
+                || !storedRefreshToken.matches(passedRefreshToken)
+                || !storedRefreshToken.isValid()){
             refreshTokenRepository.revokeAllByUser(user);
             throw new InvalidTokenException("Refresh token is invalid or revoked.");
         }
@@ -219,7 +225,7 @@ public class UserService {
                 user.getUserId(),
                 username,
                 "",
-                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                user.getRole().getAuthorities()
         );
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
@@ -233,7 +239,8 @@ public class UserService {
         //새로 발급한 refresh token 생성
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
-                .hashedRefreshToken(passwordEncoder.encode(newRefreshToken))
+                .jti(jwtTokenProvider.getJti(newRefreshToken))
+                .tokenFingerprint(RefreshToken.fingerprint(newRefreshToken))
                 .isRevoked(false)
                 .issuedAt(jwtTokenProvider.getIssuedAt(newRefreshToken))
                 .expiresAt(jwtTokenProvider.getExpiresAt(newRefreshToken))
@@ -412,7 +419,7 @@ public class UserService {
                 user.getUserId(),
                 user.getSocialAuth().getSocialProvider() + "_" + user.getSocialAuth().getSocialId(), //social 유저의 경우 provider와 socialId의 조합을 username으로 활용
                 "",
-                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                user.getRole().getAuthorities()
         );
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
@@ -426,7 +433,8 @@ public class UserService {
         //새로 발급한 refresh token 생성
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
-                .hashedRefreshToken(passwordEncoder.encode(newRefreshToken))
+                .jti(jwtTokenProvider.getJti(newRefreshToken))
+                .tokenFingerprint(RefreshToken.fingerprint(newRefreshToken))
                 .isRevoked(false)
                 .issuedAt(jwtTokenProvider.getIssuedAt(newRefreshToken))
                 .expiresAt(jwtTokenProvider.getExpiresAt(newRefreshToken))
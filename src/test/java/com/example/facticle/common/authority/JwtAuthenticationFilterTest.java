@@ -0,0 +1,146 @@
+package com.example.facticle.common.authority;
+
+import com.example.facticle.common.dto.CustomUserDetails;
+import com.example.facticle.user.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+class JwtAuthenticationFilterTest {
+
+    private final JwtTokenProvider jwtTokenProvider = spy(tokenProvider(600_000));
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtTokenProvider, new AccessTokenAuthenticationCache(100, new SimpleMeterRegistry()));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("access token은 한 번만 파싱하고, 같은 토큰의 다음 요청은 캐시된 인증 정보로 인증")
+    void parseOnceAndCache() throws Exception {
+        String token = jwtTokenProvider.createAccessToken(authentication());
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+            CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertThat(principal.getUserId()).isEqualTo(1L);
+            //역할별로 미리 생성된 권한 목록을 그대로 사용
+            assertThat(principal.getAuthorities()).isSameAs(UserRole.USER.getAuthorities());
+        }
+        verify(jwtTokenProvider, times(1)).parseToken(anyString());
+    }
+
+    @Test
+    @DisplayName("refresh token은 캐시하지 않고 매번 거부, 만료된 토큰은 expired_token 속성으로 표시")
+    void rejectRefreshAndExpiredToken() throws Exception {
+        String refreshToken = jwtTokenProvider.createRefreshToken(authentication());
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> filter.doFilter(request(refreshToken), new MockHttpServletResponse(), new MockFilterChain()))
+                    .isInstanceOf(InsufficientAuthenticationException.class);
+        }
+        verify(jwtTokenProvider, times(2)).parseToken(anyString());
+
+        String expiredToken = tokenProvider(-1_000).createAccessToken(authentication());
+        MockHttpServletRequest request = request(expiredToken);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(request.getAttribute("expired_token")).isEqualTo(true);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    /**
+     * 요청당 토큰 처리 비용(시간, 힙 할당량) 비교
+     * - 기존: validateToken, getTokenType, getAuthentication이 각각 토큰을 파싱(서명 검증 3회)
+     * - 파싱 1회: parseToken 결과의 클레임으로 타입 확인, Authentication 생성
+     * - 캐시 hit: 필터 전체(서명 검증 없이 SHA-256 해시 + 캐시 조회)
+     * -Djwt.filter.benchmark=true 일 때만 실행
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "jwt.filter.benchmark", matches = "true")
+    @DisplayName("JWT 인증 필터 요청당 비용 벤치마크")
+    void filterBenchmark() throws Exception {
+        JwtTokenProvider provider = tokenProvider(600_000);
+        JwtAuthenticationFilter cachedFilter = new JwtAuthenticationFilter(provider, new AccessTokenAuthenticationCache(100, new SimpleMeterRegistry()));
+        String token = provider.createAccessToken(authentication());
+        MockHttpServletRequest request = request(token);
+
+        log.info("parse x3 (legacy) : {}", measure(() -> {
+            provider.validateToken(token);
+            provider.getTokenType(token);
+            provider.getAuthentication(token);
+        }));
+        log.info("parse x1          : {}", measure(() -> {
+            JwtParseResult result = provider.parseToken(token);
+            result.getTokenType();
+            provider.getAuthentication(result.getClaims());
+        }));
+        log.info("filter cache hit  : {}", measure(() -> {
+            try {
+                cachedFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }));
+    }
+
+    private JwtTokenProvider tokenProvider(long accessTokenValidTime) {
+        JwtTokenProvider provider = new JwtTokenProvider(
+                new JwtKeyRing("oRf96S6l4scYOnZpl747wPckC7FmrGbEPOvbVYZj8Lw=", "HS256", "", "", "", 7_200_000, ""));
+        ReflectionTestUtils.setField(provider, "accessTokenValidTime", accessTokenValidTime);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidTime", 3_600_000L);
+        provider.init();
+        return provider;
+    }
+
+    private Authentication authentication() {
+        return new UsernamePasswordAuthenticationToken(new CustomUserDetails(1L, "user1", "", UserRole.USER.getAuthorities()), "", UserRole.USER.getAuthorities());
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/news");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    //워밍업 후 요청당 평균 시간(마이크로초)과 현재 스레드의 힙 할당량(바이트)
+    private String measure(Runnable task) {
+        int iterations = 20_000;
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return String.format("%.2f us/request, %d B/request", elapsed / (double) iterations / 1_000, allocated / iterations);
+    }
+}
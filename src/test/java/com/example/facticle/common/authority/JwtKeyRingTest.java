@@ -0,0 +1,156 @@
+package com.example.facticle.common.authority;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class JwtKeyRingTest {
+    private static final String SECRET = "oRf96S6l4scYOnZpl747wPckC7FmrGbEPOvbVYZj8Lw=";
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("keystore가 없으면 jwt.secret으로 HS256 서명, kid 없는 기존 토큰도 검증")
+    void defaultKey() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "HS256", "", "", "", 7_200_000, "");
+        String token = keyRing.sign(Jwts.builder().setSubject("1")).compact();
+        String legacyToken = Jwts.builder().setSubject("1")
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtParser parser = parser(keyRing);
+        assertThat(parser.parseClaimsJws(token).getHeader().getKeyId()).isEqualTo(JwtKeyRing.DEFAULT_KID);
+        assertThat(parser.parseClaimsJws(legacyToken).getBody().getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("ES256 키 교체: 새 키를 추가하고 active alias를 바꿔도 이전 키로 서명한 토큰은 계속 검증")
+    void rotateKey() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        keytool("-genkeypair", "-alias", "k1", "-keyalg", "EC", "-groupname", "secp256r1", "-dname", "CN=facticle", "-keystore", keystore.toString());
+        JwtKeyRing oldRing = new JwtKeyRing(SECRET, "ES256", keystore.toString(), PASSWORD, "k1", 7_200_000, "");
+        String oldToken = oldRing.sign(Jwts.builder().setSubject("1")).compact();
+
+        //새 키 추가 후 active alias를 바꿔서 배포, 아직 이전 설정으로 떠 있는 서버는 keystore를 다시 읽어 새 kid도 검증
+        keytool("-genkeypair", "-alias", "k2", "-keyalg", "EC", "-groupname", "secp256r1", "-dname", "CN=facticle", "-keystore", keystore.toString());
+        JwtKeyRing newRing = new JwtKeyRing(SECRET, "ES256", keystore.toString(), PASSWORD, "k2", 7_200_000, "");
+        String newToken = newRing.sign(Jwts.builder().setSubject("2")).compact();
+        oldRing.reload();
+
+        assertThat(parser(newRing).parseClaimsJws(newToken).getHeader().getKeyId()).isEqualTo("k2");
+        assertThat(parser(newRing).parseClaimsJws(oldToken).getBody().getSubject()).isEqualTo("1");
+        assertThat(parser(oldRing).parseClaimsJws(newToken).getBody().getSubject()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("keystore에서 제거된 키는 grace period 동안만 검증에 사용")
+    void retireKeyAfterGracePeriod() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        keytool("-genseckey", "-alias", "k1", "-keyalg", "HmacSHA256", "-keysize", "256", "-keystore", keystore.toString());
+        keytool("-genseckey", "-alias", "k2", "-keyalg", "HmacSHA256", "-keysize", "256", "-keystore", keystore.toString());
+        //k1으로 서명하던 서버가 k2로 교체된 상태
+        String token = new JwtKeyRing(SECRET, "HS256", keystore.toString(), PASSWORD, "k1", 300, "")
+                .sign(Jwts.builder().setSubject("1")).compact();
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "HS256", keystore.toString(), PASSWORD, "k2", 300, "");
+
+        keytool("-delete", "-alias", "k1", "-keystore", keystore.toString());
+        keyRing.reload();
+        assertThat(parser(keyRing).parseClaimsJws(token).getBody().getSubject()).isEqualTo("1");
+        //keystore에서 제거된 뒤 시작한 서버는 k1을 알지 못함
+        JwtKeyRing restartedRing = new JwtKeyRing(SECRET, "HS256", keystore.toString(), PASSWORD, "k2", 300, "");
+        assertThatThrownBy(() -> parser(restartedRing).parseClaimsJws(token)).isInstanceOf(SignatureException.class);
+
+        Thread.sleep(500);
+        assertThatThrownBy(() -> parser(keyRing).parseClaimsJws(token)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("keystore 사용 시 kid 없는 기존 토큰은 legacy-token-deadline까지만 검증, 지정하지 않으면 거부")
+    void legacyTokenDeadline() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        keytool("-genseckey", "-alias", "k1", "-keyalg", "HmacSHA256", "-keysize", "256", "-keystore", keystore.toString());
+        String legacyToken = Jwts.builder().setSubject("1")
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtKeyRing noDeadline = new JwtKeyRing(SECRET, "HS256", keystore.toString(), PASSWORD, "k1", 7_200_000, "");
+        assertThatThrownBy(() -> parser(noDeadline).parseClaimsJws(legacyToken)).isInstanceOf(SignatureException.class);
+
+        //재시작해도 늘어나지 않는 절대 시각까지만 허용, reload 후에도 유지
+        JwtKeyRing beforeDeadline = new JwtKeyRing(SECRET, "HS256", keystore.toString(), PASSWORD, "k1", 7_200_000,
+                Instant.now().plusSeconds(60).toString());
+        beforeDeadline.reload();
+        assertThat(parser(beforeDeadline).parseClaimsJws(legacyToken).getBody().getSubject()).isEqualTo("1");
+
+        JwtKeyRing afterDeadline = new JwtKeyRing(SECRET, "HS256", keystore.toString(), PASSWORD, "k1", 7_200_000,
+                Instant.now().minusSeconds(1).toString());
+        assertThatThrownBy(() -> parser(afterDeadline).parseClaimsJws(legacyToken)).isInstanceOf(SignatureException.class);
+    }
+
+    /**
+     * 알고리즘별 서명, 검증 처리량 비교 (-Djwt.signing.benchmark=true 일 때만 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "jwt.signing.benchmark", matches = "true")
+    @DisplayName("HS256 vs ES256 서명, 검증 벤치마크")
+    void signingBenchmark() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        keytool("-genkeypair", "-alias", "es", "-keyalg", "EC", "-groupname", "secp256r1", "-dname", "CN=facticle", "-keystore", keystore.toString());
+        keytool("-genseckey", "-alias", "hs", "-keyalg", "HmacSHA256", "-keysize", "256", "-keystore", keystore.toString());
+
+        for (String[] config : List.of(new String[]{"HS256", "hs"}, new String[]{"ES256", "es"})) {
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, config[0], keystore.toString(), PASSWORD, config[1], 7_200_000, "");
+            JwtParser parser = parser(keyRing);
+            String token = keyRing.sign(Jwts.builder().setSubject("1").claim("auth", "ROLE_USER")).compact();
+
+            log.info("{} | sign {} ops/s | verify {} ops/s", config[0],
+                    throughput(() -> keyRing.sign(Jwts.builder().setSubject("1").claim("auth", "ROLE_USER")).compact()),
+                    throughput(() -> parser.parseClaimsJws(token)));
+        }
+    }
+
+    private JwtParser parser(JwtKeyRing keyRing) {
+        return Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+    }
+
+    private void keytool(String... args) throws Exception {
+        List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "keytool").toString()));
+        command.addAll(List.of(args));
+        command.addAll(List.of("-storetype", "PKCS12", "-storepass", PASSWORD, "-noprompt"));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertThat(process.waitFor()).as(output).isZero();
+    }
+
+    //워밍업 후 초당 처리 횟수
+    private long throughput(Runnable task) {
+        int iterations = 5_000;
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return iterations * 1_000_000_000L / (System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.facticle.common.config;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.search.NewsSearchQueryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.core.action.ActionListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class OpenSearchConfigTest {
+    private static final String INDEX = "news_client_benchmark";
+    private static final String[] WORDS = {"정부", "경제", "반도체", "인공지능", "수출", "금리", "부동산", "선거", "국회", "기업"};
+
+    /**
+     * 높은 동시성에서 기본 설정 클라이언트 + 블로킹 검색(기존) vs OpenSearchConfig 클라이언트 + searchAsync(NewsSearchService) 처리량 비교
+     * 요청은 NewsSearchQueryBuilder로 만든 키워드 검색(pushdown) 쿼리를 별도 인덱스(news_client_benchmark)에 실행
+     * -Dnews.search.benchmark.opensearch=http://localhost:9200 처럼 OpenSearch 주소를 지정했을 때만 실행
+     * (동시 요청 수는 -Dnews.search.benchmark.concurrency, 요청 수는 -Dnews.search.benchmark.requests 로 조정)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.search.benchmark.opensearch", matches = ".+")
+    @DisplayName("기본 클라이언트 + 블로킹 검색 vs 설정한 클라이언트 + 비동기 검색 처리량 벤치마크")
+    void clientThroughputBenchmark() throws Exception {
+        String endpoint = System.getProperty("news.search.benchmark.opensearch");
+        int concurrency = Integer.getInteger("news.search.benchmark.concurrency", 200);
+        int requestCount = Integer.getInteger("news.search.benchmark.requests", 20_000);
+        OpenSearchConfig config = config(endpoint);
+
+        try (RestHighLevelClient defaultClient = new RestHighLevelClient(RestClient.builder(HttpHost.create(endpoint)));
+             RestHighLevelClient tunedClient = config.openSearchClient()) {
+            seed(tunedClient, 10_000);
+            try {
+                List<SearchRequest> requests = searchRequests(requestCount);
+                RequestOptions tunedOptions = config.openSearchRequestOptions();
+
+                //워밍업(커넥션 생성, JIT) 후 측정
+                blockingThroughput(defaultClient, RequestOptions.DEFAULT, requests.subList(0, 1_000), concurrency);
+                asyncThroughput(tunedClient, tunedOptions, requests.subList(0, 1_000), concurrency);
+
+                log.info("concurrency {} | default client + blocking {} req/s | tuned client + async {} req/s", concurrency,
+                        blockingThroughput(defaultClient, RequestOptions.DEFAULT, requests, concurrency),
+                        asyncThroughput(tunedClient, tunedOptions, requests, concurrency));
+            } finally {
+                tunedClient.indices().delete(new DeleteIndexRequest(INDEX), RequestOptions.DEFAULT);
+            }
+        }
+    }
+
+    //application-common.yml의 opensearch.client 설정과 같은 값
+    private OpenSearchConfig config(String endpoint) {
+        OpenSearchConfig config = new OpenSearchConfig();
+        ReflectionTestUtils.setField(config, "host", endpoint);
+        ReflectionTestUtils.setField(config, "maxConnTotal", 100);
+        ReflectionTestUtils.setField(config, "maxConnPerRoute", 50);
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 1000);
+        ReflectionTestUtils.setField(config, "socketTimeoutMillis", 5000);
+        ReflectionTestUtils.setField(config, "connectionRequestTimeoutMillis", 500);
+        ReflectionTestUtils.setField(config, "keepAliveMillis", 60_000L);
+        ReflectionTestUtils.setField(config, "compressionEnabled", true);
+        ReflectionTestUtils.setField(config, "responseBufferLimitMb", 50);
+        return config;
+    }
+
+    //벤치마크용 인덱스는 기본 analyzer를 사용(nori 플러그인 없이도 실행되도록)
+    private void seed(RestHighLevelClient client, int rows) throws IOException {
+        client.indices().create(new CreateIndexRequest(INDEX), RequestOptions.DEFAULT);
+        Random random = new Random(42);
+        for (int from = 0; from < rows; from += 5_000) {
+            BulkRequest bulk = new BulkRequest();
+            for (int id = from; id < Math.min(from + 5_000, rows); id++) {
+                bulk.add(new IndexRequest(INDEX).id(String.valueOf(id)).source(Map.of(
+                        "news_id", id,
+                        "title", randomText(random, 5),
+                        "content", randomText(random, 60),
+                        "collected_at", String.format("2025-01-%02dT00:00:00", id % 28 + 1))));
+            }
+            client.bulk(bulk.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE), RequestOptions.DEFAULT);
+        }
+    }
+
+    //같은 검색이 반복되지 않도록 키워드와 페이지를 바꿔가며 생성
+    private List<SearchRequest> searchRequests(int count) {
+        List<SearchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            NewsSearchCondition condition = NewsSearchCondition.builder()
+                    .titleOrContentKeyword(List.of(WORDS[i % WORDS.length]))
+                    .page(i % 20)
+                    .build();
+            requests.add(new SearchRequest(INDEX).source(NewsSearchQueryBuilder.build(condition)));
+        }
+        return requests;
+    }
+
+    //요청마다 스레드 하나가 응답을 기다림(기존 Tomcat 스레드에서 검색하는 방식)
+    private long blockingThroughput(RestHighLevelClient client, RequestOptions options, List<SearchRequest> requests, int concurrency) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (SearchRequest request : requests) {
+            futures.add(executorService.submit(() -> client.search(request, options)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+        return requests.size() * 1_000_000_000L / elapsed;
+    }
+
+    //호출 스레드 하나가 동시에 진행 중인 요청 수만 제한하고, 응답은 클라이언트의 I/O 스레드에서 처리
+    private long asyncThroughput(RestHighLevelClient client, RequestOptions options, List<SearchRequest> requests, int concurrency) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        LongAdder failures = new LongAdder();
+        long start = System.nanoTime();
+        for (SearchRequest request : requests) {
+            inFlight.acquire();
+            client.searchAsync(request, options, ActionListener.wrap(response -> inFlight.release(), e -> {
+                failures.increment();
+                inFlight.release();
+            }));
+        }
+        inFlight.acquire(concurrency);
+        long elapsed = System.nanoTime() - start;
+        assertThat(failures.sum()).isZero();
+        return requests.size() * 1_000_000_000L / elapsed;
+    }
+
+    private String randomText(Random random, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
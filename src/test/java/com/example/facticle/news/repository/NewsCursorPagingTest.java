@@ -0,0 +1,288 @@
+package com.example.facticle.news.repository;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import com.example.facticle.common.service.DateTimeUtil;
+import com.example.facticle.news.dto.*;
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsCategory;
+import com.example.facticle.news.repository.jpa.NewsRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class NewsCursorPagingTest {
+
+    @Autowired
+    NewsRepository newsRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional
+    @DisplayName("커서 페이징은 모든 정렬 기준에서 offset 페이징과 같은 순서로 중복, 누락 없이 조회")
+    void cursorPagingMatchesOffsetPaging() {
+        //given, 정렬 키가 같은 뉴스가 섞이도록 값을 반복
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < 23; i++) {
+            News news = News.builder()
+                    .url("https://news.example.com/cursor" + i)
+                    .title("커서 페이징 뉴스 " + i)
+                    .summary("요약")
+                    .mediaName("커서미디어")
+                    .category(NewsCategory.TECH)
+                    .headlineScore(new BigDecimal(50 + i % 4))
+                    .factScore(new BigDecimal(60 + i % 3))
+                    .headlineScoreReason("hs 이유")
+                    .factScoreReason("fs 이유")
+                    .likeCount(i % 5)
+                    .hateCount(i % 2)
+                    .viewCount(i % 7)
+                    .ratingCount(i % 3)
+                    .totalRatingSum(new BigDecimal((i % 3) * (i % 5)))
+                    .build();
+            entityManager.persist(news);
+            entityManager.flush();
+            //@CreationTimestamp 값을 덮어써서 같은 수집 시간도 만듦
+            entityManager.createQuery("update News n set n.collectedAt = :collectedAt where n.newsId = :newsId")
+                    .setParameter("collectedAt", base.plusHours(i / 2))
+                    .setParameter("newsId", news.getNewsId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+
+        for (SortBy sortBy : SortBy.values()) {
+            for (SortDirection sortDirection : SortDirection.values()) {
+                NewsSearchCondition offsetCondition = NewsSearchCondition.builder()
+                        .publishers(List.of("커서미디어")).sortBy(sortBy).sortDirection(sortDirection).size(100).build();
+                List<Long> expected = newsRepository.searchNewsList(offsetCondition).stream().map(NewsListResponseDto::getNewsId).toList();
+
+                //when
+                List<Long> actual = new ArrayList<>();
+                String cursor = null;
+                do {
+                    NewsSearchCondition cursorCondition = NewsSearchCondition.builder()
+                            .publishers(List.of("커서미디어")).sortBy(sortBy).sortDirection(sortDirection)
+                            .size(5).pagingMode(PagingMode.CURSOR).cursor(cursor).build();
+                    NewsCursorSlice slice = newsRepository.searchNewsListByCursor(cursorCondition);
+                    slice.getNewsList().forEach(news -> actual.add(news.getNewsId()));
+                    cursor = slice.getNextCursor();
+                } while (cursor != null);
+
+                //then
+                assertThat(actual).as("%s %s", sortBy, sortDirection).hasSize(23).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("평점 필터는 평점이 없는(average_rating 0) 뉴스를 포함하지 않음")
+    void ratingFilterExcludesUnratedNews() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(News.builder()
+                    .url("https://news.example.com/rating" + i)
+                    .title("평점 필터 뉴스 " + i)
+                    .summary("요약")
+                    .mediaName("평점미디어")
+                    .category(NewsCategory.TECH)
+                    .headlineScore(new BigDecimal(50))
+                    .factScore(new BigDecimal(60))
+                    .headlineScoreReason("hs 이유")
+                    .factScoreReason("fs 이유")
+                    .ratingCount(i)
+                    .totalRatingSum(new BigDecimal(i * 2))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        NewsSearchCondition maxRating = NewsSearchCondition.builder()
+                .publishers(List.of("평점미디어")).maxRating(new BigDecimal("3.0")).size(100).build();
+        NewsSearchCondition noRatingFilter = NewsSearchCondition.builder()
+                .publishers(List.of("평점미디어")).size(100).build();
+
+        //then
+        assertThat(newsRepository.searchNewsList(maxRating)).extracting(NewsListResponseDto::getTitle)
+                .containsExactlyInAnyOrder("평점 필터 뉴스 1", "평점 필터 뉴스 2");
+        assertThat(newsRepository.searchNewsList(noRatingFilter)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다르거나 손상된 커서는 InvalidInputException")
+    void invalidCursor() {
+        String cursor = new NewsSearchCursor(SortBy.LIKE_COUNT, SortDirection.DESC, "3", 10L).encode();
+
+        assertThatThrownBy(() -> NewsSearchCursor.decode(cursor, SortBy.VIEW_COUNT, SortDirection.DESC))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> NewsSearchCursor.decode("not-a-cursor", SortBy.LIKE_COUNT, SortDirection.DESC))
+                .isInstanceOf(InvalidInputException.class);
+        assertThat(NewsSearchCursor.decode(cursor, SortBy.LIKE_COUNT, SortDirection.DESC).getLastNewsId()).isEqualTo(10L);
+    }
+
+    /**
+     * 수백만 건을 적재한 뒤 1페이지와 5000페이지의 응답 시간을 offset / cursor 방식으로 비교
+     * 적재에 시간이 오래 걸리므로 -Dnews.paging.benchmark=true 일 때만 실행 (건수는 -Dnews.paging.benchmark.rows 로 조정)
+     * ex) ./gradlew test --tests NewsCursorPagingTest -Dnews.paging.benchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.paging.benchmark", matches = "true")
+    @DisplayName("offset vs cursor 페이징 벤치마크")
+    void pagingBenchmark() {
+        int rows = Integer.getInteger("news.paging.benchmark.rows", 3_000_000);
+        int size = 20;
+        int deepPage = 5000;
+
+        seedNews(rows);
+
+        NewsSearchCondition firstPage = NewsSearchCondition.builder().size(size).build();
+        NewsSearchCondition deepOffsetPage = NewsSearchCondition.builder().size(size).page(deepPage).build();
+
+        //5000페이지 직전의 커서는 마지막 뉴스의 (collectedAt, newsId)로 생성, 목록 응답의 수집 시간은 KST이므로 UTC로 되돌림
+        NewsListResponseDto lastOfPreviousPage = newsRepository.searchNewsList(NewsSearchCondition.builder().size(1).page(deepPage * size - 1).build()).get(0);
+        String deepCursor = new NewsSearchCursor(SortBy.COLLECTED_AT, SortDirection.DESC,
+                DateTimeUtil.convertKSTToUTC(lastOfPreviousPage.getCollectedAt()).toString(), lastOfPreviousPage.getNewsId()).encode();
+        NewsSearchCondition firstCursorPage = NewsSearchCondition.builder().size(size).pagingMode(PagingMode.CURSOR).build();
+        NewsSearchCondition deepCursorPage = NewsSearchCondition.builder().size(size).pagingMode(PagingMode.CURSOR).cursor(deepCursor).build();
+
+        log.info("offset page 1    : {} ms", measure(() -> newsRepository.searchNewsList(firstPage)));
+        log.info("offset page {} : {} ms", deepPage, measure(() -> newsRepository.searchNewsList(deepOffsetPage)));
+        log.info("cursor page 1    : {} ms", measure(() -> newsRepository.searchNewsListByCursor(firstCursorPage)));
+        log.info("cursor page {} : {} ms", deepPage, measure(() -> newsRepository.searchNewsListByCursor(deepCursorPage)));
+
+        jdbcTemplate.update("DELETE FROM news WHERE media_name = 'benchmark'");
+    }
+
+    /**
+     * 평점 정렬/필터 벤치마크, averageRating 컬럼 + (category, average_rating) 인덱스 사용 여부를 EXPLAIN과 응답 시간으로 확인
+     * pagingBenchmark와 같은 조건에서만 실행
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.paging.benchmark", matches = "true")
+    @DisplayName("평점 정렬 벤치마크")
+    void ratingSortBenchmark() {
+        int rows = Integer.getInteger("news.paging.benchmark.rows", 3_000_000);
+        seedNews(rows);
+
+        NewsSearchCondition ratingSort = NewsSearchCondition.builder()
+                .sortBy(SortBy.RATING).size(20).build();
+        NewsSearchCondition categoryRatingSort = NewsSearchCondition.builder()
+                .categories(List.of(NewsCategory.TECH)).sortBy(SortBy.RATING).size(20).build();
+        NewsSearchCondition ratingFilter = NewsSearchCondition.builder()
+                .minRating(new BigDecimal("4.5")).sortBy(SortBy.RATING).size(20).build();
+
+        log.info("rating sort              : {} ms", measure(() -> newsRepository.searchNewsList(ratingSort)));
+        log.info("category + rating sort   : {} ms", measure(() -> newsRepository.searchNewsList(categoryRatingSort)));
+        log.info("rating filter + sort     : {} ms", measure(() -> newsRepository.searchNewsList(ratingFilter)));
+        jdbcTemplate.queryForList("EXPLAIN SELECT news_id FROM news WHERE category = 'TECH' ORDER BY average_rating DESC, news_id DESC LIMIT 20")
+                .forEach(plan -> log.info("explain : {}", plan));
+
+        jdbcTemplate.update("DELETE FROM news WHERE media_name = 'benchmark'");
+    }
+
+    /**
+     * 뉴스 목록 조회 시 엔티티 조회(기존)와 목록 컬럼 projection(searchNewsList)의 MySQL 전송량, 요청당 힙 할당량 비교
+     * 전송량은 같은 커넥션의 Bytes_sent 세션 변수 차이로 측정하므로 @Transactional로 커넥션을 고정
+     * pagingBenchmark와 같은 조건에서만 실행
+     */
+    @Test
+    @Transactional
+    @EnabledIfSystemProperty(named = "news.paging.benchmark", matches = "true")
+    @DisplayName("뉴스 목록 엔티티 조회 vs DTO projection 벤치마크")
+    void listProjectionBenchmark() {
+        seedNews(Integer.getInteger("news.paging.benchmark.rows", 3_000_000));
+        NewsSearchCondition condition = NewsSearchCondition.builder().size(100).build();
+
+        Runnable entity = () -> entityManager.createQuery("SELECT n FROM News n ORDER BY n.collectedAt DESC, n.newsId DESC", News.class)
+                .setMaxResults(100)
+                .getResultList()
+                .stream()
+                .map(NewsListResponseDto::from)
+                .toList();
+        Runnable projection = () -> newsRepository.searchNewsList(condition);
+
+        for (Map.Entry<String, Runnable> query : Map.of("entity", entity, "projection", projection).entrySet()) {
+            query.getValue().run();
+            entityManager.clear();
+
+            long bytesBefore = bytesSent();
+            long allocatedBefore = allocatedBytes();
+            query.getValue().run();
+            long allocated = allocatedBytes() - allocatedBefore;
+            //Bytes_sent 조회 쿼리 자체의 전송량도 포함되지만 두 방식에 같은 크기로 포함됨
+            long sent = bytesSent() - bytesBefore;
+            entityManager.clear();
+
+            log.info("{} : {} ms, mysql bytes sent {} B, heap allocated {} KB",
+                    query.getKey(), measure(query.getValue()), sent, allocated / 1024);
+        }
+
+        jdbcTemplate.update("DELETE FROM news WHERE media_name = 'benchmark'");
+    }
+
+    private long bytesSent() {
+        return Long.parseLong(jdbcTemplate.queryForMap("SHOW SESSION STATUS LIKE 'Bytes_sent'").get("Value").toString());
+    }
+
+    //현재 스레드가 할당한 힙 바이트 수(HotSpot)
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private void seedNews(int rows) {
+        String sql = "INSERT INTO news (url, title, summary, media_name, category, headline_score, fact_score, " +
+                "headline_score_reason, fact_score_reason, collected_at, like_count, hate_count, comment_count, view_count, " +
+                "rating_count, total_rating_sum, average_rating) " +
+                "VALUES (?, 'benchmark', 'benchmark', 'benchmark', ?, 50, 50, 'hs', 'fs', ?, 0, 0, 0, 0, ?, ?, ?)";
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        NewsCategory[] categories = NewsCategory.values();
+        int batchSize = 10_000;
+        for (int from = 0; from < rows; from += batchSize) {
+            List<Object[]> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + batchSize, rows); i++) {
+                int ratingCount = i % 50;
+                BigDecimal totalRatingSum = BigDecimal.valueOf((long) ratingCount * (i % 5 + 1));
+                BigDecimal averageRating = ratingCount == 0 ? BigDecimal.ZERO :
+                        totalRatingSum.divide(BigDecimal.valueOf(ratingCount), 2, RoundingMode.HALF_UP);
+                batch.add(new Object[]{"https://benchmark.example.com/" + i, categories[i % categories.length].name(),
+                        Timestamp.valueOf(base.plusSeconds(i / 3)), ratingCount, totalRatingSum, averageRating});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    //워밍업 후 5회 평균
+    private double measure(Runnable query) {
+        query.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 5 / 1_000_000.0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.facticle.news.repository;
 
+import com.example.facticle.news.dto.NewsListResponseDto;
 import com.example.facticle.news.dto.NewsSearchCondition;
 import com.example.facticle.news.dto.SortBy;
 import com.example.facticle.news.dto.SortDirection;
@@ -159,14 +160,14 @@ class NewsRepositoryTest {
         NewsSearchCondition categoryCondition = NewsSearchCondition.builder()
                 .categories(List.of(NewsCategory.SPORTS, NewsCategory.ECONOMY))
                 .build();
-        List<News> categoryResults = newsRepository.searchNewsList(categoryCondition);
+        List<NewsListResponseDto> categoryResults = newsRepository.searchNewsList(categoryCondition);
         Assertions.assertThat(categoryResults).hasSize(2);
 
         // 언론사 필터링 테스트
         NewsSearchCondition publisherCondition = NewsSearchCondition.builder()
                 .publishers(List.of("뉴스미디어1", "뉴스미디어3"))
                 .build();
-        List<News> publisherResults = newsRepository.searchNewsList(publisherCondition);
+        List<NewsListResponseDto> publisherResults = newsRepository.searchNewsList(publisherCondition);
         Assertions.assertThat(publisherResults).hasSize(2);
 
         // 조회수 필터링 테스트
@@ -174,7 +175,7 @@ class NewsRepositoryTest {
                 .minViews(500)
                 .maxViews(7000)
                 .build();
-        List<News> viewCountResults = newsRepository.searchNewsList(viewCountCondition);
+        List<NewsListResponseDto> viewCountResults = newsRepository.searchNewsList(viewCountCondition);
         Assertions.assertThat(viewCountResults).hasSize(3);
 
         // 좋아요 필터링 테스트
@@ -182,7 +183,7 @@ class NewsRepositoryTest {
                 .minLikes(10)
                 .maxLikes(250)
                 .build();
-        List<News> likesResults = newsRepository.searchNewsList(likesCondition);
+        List<NewsListResponseDto> likesResults = newsRepository.searchNewsList(likesCondition);
         Assertions.assertThat(likesResults).hasSize(2);
 
         // 싫어요 필터링 테스트
@@ -190,7 +191,7 @@ class NewsRepositoryTest {
                 .minDislikes(50)
                 .maxDislikes(200)
                 .build();
-        List<News> dislikesResults = newsRepository.searchNewsList(dislikesCondition);
+        List<NewsListResponseDto> dislikesResults = newsRepository.searchNewsList(dislikesCondition);
         Assertions.assertThat(dislikesResults).hasSize(3);
 
 
@@ -199,7 +200,7 @@ class NewsRepositoryTest {
                 .minRating(new BigDecimal("2.0"))
                 .maxRating(new BigDecimal("4.5"))
                 .build();
-        List<News> ratingResults = newsRepository.searchNewsList(ratingCondition);
+        List<NewsListResponseDto> ratingResults = newsRepository.searchNewsList(ratingCondition);
         Assertions.assertThat(ratingResults).hasSize(3);
 
         // 수집 날짜 필터링 테스트
@@ -219,7 +220,7 @@ class NewsRepositoryTest {
 
 
 
-        List<News> collectedAtResults = newsRepository.searchNewsList(collectedAtCondition);
+        List<NewsListResponseDto> collectedAtResults = newsRepository.searchNewsList(collectedAtCondition);
         Assertions.assertThat(collectedAtResults).hasSize(5);
 
         // 정렬 테스트 (조회수 내림차순)
@@ -227,7 +228,7 @@ class NewsRepositoryTest {
                 .sortBy(SortBy.VIEW_COUNT)
                 .sortDirection(SortDirection.DESC)
                 .build();
-        List<News> sortedResults = newsRepository.searchNewsList(sortCondition);
+        List<NewsListResponseDto> sortedResults = newsRepository.searchNewsList(sortCondition);
         Assertions.assertThat(sortedResults.get(0).getViewCount()).isGreaterThanOrEqualTo(sortedResults.get(1).getViewCount());
 
         // 페이징 테스트 (size=3, page=1)
@@ -235,7 +236,7 @@ class NewsRepositoryTest {
                 .page(1)
                 .size(3)
                 .build();
-        List<News> pagedResults = newsRepository.searchNewsList(pagingCondition);
+        List<NewsListResponseDto> pagedResults = newsRepository.searchNewsList(pagingCondition);
         Assertions.assertThat(pagedResults).hasSize(2);
     }
 }
\ No newline at end of file
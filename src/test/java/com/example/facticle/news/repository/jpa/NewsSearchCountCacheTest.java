@@ -0,0 +1,43 @@
+package com.example.facticle.news.repository.jpa;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsSearchCountCacheTest {
+
+    @Test
+    @DisplayName("순서, 중복, 공백, 소수점 표기만 다른 조건은 같은 키")
+    void normalizedKey() {
+        NewsSearchCondition condition1 = NewsSearchCondition.builder()
+                .titleKeyword(List.of("금리", "한국은행"))
+                .minRating(new BigDecimal("3.0"))
+                .build();
+        NewsSearchCondition condition2 = NewsSearchCondition.builder()
+                .titleKeyword(List.of(" 한국은행", "금리", "금리"))
+                .minRating(new BigDecimal("3"))
+                .build();
+
+        assertThat(NewsSearchCountCache.keyOf(condition1)).isEqualTo(NewsSearchCountCache.keyOf(condition2));
+    }
+
+    @Test
+    @DisplayName("구분자가 포함된 키워드와 여러 키워드, 다른 조건으로 옮겨간 키워드는 다른 키")
+    void keywordsContainingSeparators() {
+        NewsSearchCondition joined = NewsSearchCondition.builder().titleKeyword(List.of("a,b")).build();
+        NewsSearchCondition separated = NewsSearchCondition.builder().titleKeyword(List.of("a", "b")).build();
+        NewsSearchCondition piped = NewsSearchCondition.builder().titleKeyword(List.of("a|b")).build();
+        NewsSearchCondition moved = NewsSearchCondition.builder().titleKeyword(List.of("a")).contentKeyword(List.of("b")).build();
+
+        assertThat(NewsSearchCountCache.keyOf(joined))
+                .isNotEqualTo(NewsSearchCountCache.keyOf(separated))
+                .isNotEqualTo(NewsSearchCountCache.keyOf(piped))
+                .isNotEqualTo(NewsSearchCountCache.keyOf(moved));
+        assertThat(NewsSearchCountCache.keyOf(separated)).isNotEqualTo(NewsSearchCountCache.keyOf(moved));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.facticle.news.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FULLTEXT 인덱스는 커밋된 데이터만 검색되므로 @Transactional 없이 적재하고 테스트 후 직접 삭제
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class MySqlNewsKeywordSearchTest {
+    private static final String MEDIA_NAME = "keyword-search-test";
+
+    @Autowired
+    NewsKeywordSearch newsKeywordSearch;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE nc FROM news_content nc JOIN news n ON n.news_id = nc.news_id WHERE n.media_name = ?", MEDIA_NAME);
+        jdbcTemplate.update("DELETE FROM news WHERE media_name = ?", MEDIA_NAME);
+    }
+
+    @Test
+    @DisplayName("test 프로필에서는 OpenSearch 없이 MySQL FULLTEXT로 제목, 본문, 제목 또는 본문 키워드 검색")
+    void searchByKeywords() {
+        //given
+        List<Long> newsIds = seedNews(List.of(
+                new String[]{"인공지능 반도체 수출 증가", "반도체 업계는 올해 실적 개선을 기대하고 있다"},
+                new String[]{"인공지능 규제 법안 통과", "국회는 인공지능 기본법을 의결했다"},
+                new String[]{"프로야구 개막전 매진", "야구장에 관중이 몰렸다"}));
+
+        //when, then
+        assertThat(newsKeywordSearch).isInstanceOf(MySqlNewsKeywordSearch.class);
+        assertThat(newsKeywordSearch.findKeywordMatchIds(List.of("인공지능"), null, null, 100))
+                .containsExactly(newsIds.get(0), newsIds.get(1));
+        assertThat(newsKeywordSearch.findKeywordMatchIds(List.of("인공지능", "반도체"), null, null, 100))
+                .containsExactly(newsIds.get(0));
+        assertThat(newsKeywordSearch.findKeywordMatchIds(List.of("인공지능"), List.of("기본법"), null, 100))
+                .containsExactly(newsIds.get(1));
+        assertThat(newsKeywordSearch.findKeywordMatchIds(null, null, List.of("반도체", "관중"), 100))
+                .containsExactly(newsIds.get(0), newsIds.get(2));
+        assertThat(newsKeywordSearch.findKeywordMatchIds(null, null, List.of("반도체", "관중"), 1))
+                .containsExactly(newsIds.get(0));
+        assertThat(newsKeywordSearch.findKeywordMatchIds(List.of("축구"), null, null, 100)).isEmpty();
+    }
+
+    /**
+     * 같은 말뭉치를 MySQL(FULLTEXT ngram)과 OpenSearch에 각각 적재하고 같은 키워드 조건의 검색 시간과 결과 수를 비교
+     * OpenSearch 쪽은 NewsSearchService와 같은 쿼리(NewsSearchQueryBuilder.keywordQuery)를 별도 인덱스(news_keyword_benchmark)에 실행
+     * 벤치마크용 인덱스는 기본 analyzer를 사용하므로, 부분 문자열도 검색되는 ngram과는 결과 수가 다를 수 있음
+     * -Dnews.search.benchmark.opensearch=http://localhost:9200 처럼 OpenSearch 주소를 지정했을 때만 실행 (건수는 -Dnews.search.benchmark.rows 로 조정)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.search.benchmark.opensearch", matches = ".+")
+    @DisplayName("MySQL FULLTEXT vs OpenSearch 키워드 검색 벤치마크")
+    void keywordSearchBenchmark() throws IOException {
+        int rows = Integer.getInteger("news.search.benchmark.rows", 200_000);
+        String index = "news_keyword_benchmark";
+        String[] words = {"정부", "경제", "반도체", "인공지능", "수출", "금리", "부동산", "선거", "국회", "기업",
+                "주가", "환율", "물가", "일자리", "교육", "의료", "기후", "에너지", "전기차", "배터리"};
+
+        Random random = new Random(42);
+        List<String[]> corpus = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            corpus.add(new String[]{randomText(random, words, 5), randomText(random, words, 60)});
+        }
+        List<Long> newsIds = seedNews(corpus);
+
+        try (RestHighLevelClient client = new RestHighLevelClient(
+                RestClient.builder(HttpHost.create(System.getProperty("news.search.benchmark.opensearch"))))) {
+            client.indices().create(new CreateIndexRequest(index), RequestOptions.DEFAULT);
+            try {
+                for (int from = 0; from < rows; from += 5_000) {
+                    BulkRequest bulk = new BulkRequest();
+                    for (int i = from; i < Math.min(from + 5_000, rows); i++) {
+                        bulk.add(new IndexRequest(index).id(String.valueOf(newsIds.get(i))).source(Map.of(
+                                NewsSearchQueryBuilder.NEWS_ID, newsIds.get(i),
+                                NewsSearchQueryBuilder.TITLE, corpus.get(i)[0],
+                                NewsSearchQueryBuilder.CONTENT, corpus.get(i)[1])));
+                    }
+                    client.bulk(bulk.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE), RequestOptions.DEFAULT);
+                }
+
+                List<List<List<String>>> queries = List.of(
+                        Arrays.asList(List.of("반도체"), null, null),
+                        Arrays.asList(List.of("인공지능", "수출"), null, null),
+                        Arrays.asList(null, List.of("금리", "부동산", "환율"), null),
+                        Arrays.asList(List.of("선거"), null, List.of("국회", "정부")));
+                int limit = 1000;
+                for (List<List<String>> query : queries) {
+                    List<String> title = query.get(0), content = query.get(1), titleOrContent = query.get(2);
+
+                    Supplier<List<Long>> mySql = () -> newsKeywordSearch.findKeywordMatchIds(title, content, titleOrContent, limit);
+                    Supplier<List<Long>> openSearch = () -> {
+                        try {
+                            SearchSourceBuilder source = new SearchSourceBuilder()
+                                    .query(NewsSearchQueryBuilder.keywordQuery(title, content, titleOrContent))
+                                    .fetchSource(false)
+                                    .size(limit)
+                                    .sort(NewsSearchQueryBuilder.NEWS_ID, SortOrder.ASC);
+                            return Arrays.stream(client.search(new SearchRequest(index).source(source), RequestOptions.DEFAULT).getHits().getHits())
+                                    .map(SearchHit::getId)
+                                    .map(Long::valueOf)
+                                    .toList();
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    };
+
+                    log.info("{} | mysql {} ms ({} hits) | opensearch {} ms ({} hits)", query,
+                            measure(mySql), mySql.get().size(), measure(openSearch), openSearch.get().size());
+                }
+            } finally {
+                client.indices().delete(new DeleteIndexRequest(index), RequestOptions.DEFAULT);
+            }
+        }
+    }
+
+    //뉴스, 본문을 적재하고 news_id를 적재 순서대로 반환
+    private List<Long> seedNews(List<String[]> titleAndContents) {
+        String newsSql = "INSERT INTO news (url, title, summary, media_name, category, headline_score, fact_score, " +
+                "headline_score_reason, fact_score_reason, collected_at, like_count, hate_count, comment_count, view_count, " +
+                "rating_count, total_rating_sum, average_rating) " +
+                "VALUES (?, ?, 'summary', ?, 'TECH', 50, 50, 'hs', 'fs', ?, 0, 0, 0, 0, 0, 0, 0)";
+        Timestamp collectedAt = Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0));
+        List<Object[]> newsRows = new ArrayList<>();
+        for (int i = 0; i < titleAndContents.size(); i++) {
+            newsRows.add(new Object[]{"https://keyword.example.com/" + i, titleAndContents.get(i)[0], MEDIA_NAME, collectedAt});
+        }
+        for (int from = 0; from < newsRows.size(); from += 10_000) {
+            jdbcTemplate.batchUpdate(newsSql, newsRows.subList(from, Math.min(from + 10_000, newsRows.size())));
+        }
+
+        //auto increment이므로 news_id 순서가 적재 순서
+        List<Long> newsIds = jdbcTemplate.queryForList("SELECT news_id FROM news WHERE media_name = ? ORDER BY news_id", Long.class, MEDIA_NAME);
+        List<Object[]> contentRows = new ArrayList<>();
+        for (int i = 0; i < newsIds.size(); i++) {
+            contentRows.add(new Object[]{newsIds.get(i), titleAndContents.get(i)[1]});
+        }
+        for (int from = 0; from < contentRows.size(); from += 10_000) {
+            jdbcTemplate.batchUpdate("INSERT INTO news_content (news_id, content) VALUES (?, ?)",
+                    contentRows.subList(from, Math.min(from + 10_000, contentRows.size())));
+        }
+        return newsIds;
+    }
+
+    private String randomText(Random random, String[] words, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            text.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    //워밍업 후 5회 평균
+    private double measure(Supplier<List<Long>> search) {
+        search.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / 5 / 1_000_000.0;
+    }
+}
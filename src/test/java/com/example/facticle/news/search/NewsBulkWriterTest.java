@@ -0,0 +1,91 @@
+package com.example.facticle.news.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NewsBulkWriterTest {
+
+    private final RestHighLevelClient client = mock(RestHighLevelClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NewsBulkWriter writer = new NewsBulkWriter(client, RequestOptions.DEFAULT, meterRegistry, 1, 2);
+
+    @Test
+    @DisplayName("429로 실패한 항목만 재시도")
+    void retryRejectedItems() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(response(success("1"), failure("2", RestStatus.TOO_MANY_REQUESTS)))
+                .thenReturn(response(success("2")));
+
+        writer.write(List.of(indexRequest("1"), indexRequest("2")), "news");
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(2)).bulk(captor.capture(), any(RequestOptions.class));
+        assertThat(captor.getAllValues().get(1).requests()).extracting(DocWriteRequest::id).containsExactly("2");
+        assertThat(meterRegistry.counter("news.index.documents", "type", "news", "outcome", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도하지 않는 실패(400)는 재시도하지 않고 문서 id를 반환, 문서가 없는 실패(404)는 무시")
+    void returnPermanentFailures() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(response(success("1"), failure("2", RestStatus.BAD_REQUEST), failure("3", RestStatus.NOT_FOUND)));
+
+        List<String> failedIds = writer.write(List.of(indexRequest("1"), indexRequest("2"), indexRequest("3")), "news");
+
+        assertThat(failedIds).containsExactly("2");
+        verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertThat(meterRegistry.counter("news.index.documents", "type", "news", "outcome", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 예외")
+    void failAfterMaxRetries() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(response(failure("1", RestStatus.BAD_REQUEST), failure("2", RestStatus.TOO_MANY_REQUESTS)))
+                .thenReturn(response(failure("2", RestStatus.TOO_MANY_REQUESTS)));
+
+        assertThatThrownBy(() -> writer.write(List.of(indexRequest("1"), indexRequest("2")), "news"))
+                .isInstanceOf(RuntimeException.class);
+        verify(client, times(3)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertThat(meterRegistry.counter("news.index.documents", "type", "news", "outcome", "failure").count()).isEqualTo(2);
+    }
+
+    private IndexRequest indexRequest(String id) {
+        return new IndexRequest("news_index").id(id).source(Map.of("news_id", Long.valueOf(id)));
+    }
+
+    private BulkResponse response(BulkItemResponse... items) {
+        return new BulkResponse(items, 1);
+    }
+
+    private BulkItemResponse success(String id) {
+        return new BulkItemResponse(0, DocWriteRequest.OpType.INDEX,
+                new IndexResponse(new ShardId("news_index", "_na_", 0), id, 1, 1, 1, true));
+    }
+
+    private BulkItemResponse failure(String id, RestStatus status) {
+        return new BulkItemResponse(0, DocWriteRequest.OpType.INDEX,
+                new BulkItemResponse.Failure("news_index", id, new RuntimeException(status.name()), status));
+    }
+}
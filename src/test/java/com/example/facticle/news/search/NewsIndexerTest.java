@@ -0,0 +1,208 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.NewsDocumentDto;
+import com.example.facticle.news.entity.NewsCategory;
+import com.example.facticle.news.repository.jpa.NewsIndexRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.GetAliasesResponse;
+import org.opensearch.client.IndicesClient;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OpenSearch 클라이언트를 mock으로 대체하고 high-water mark, 누락 보정, alias 교체만 검증
+ */
+class NewsIndexerTest {
+
+    private final RestHighLevelClient client = mock(RestHighLevelClient.class);
+    private final IndicesClient indicesClient = mock(IndicesClient.class);
+    private final NewsIndexRepository newsIndexRepository = mock(NewsIndexRepository.class);
+    private final NewsBulkWriter newsBulkWriter = mock(NewsBulkWriter.class);
+    private final NewsSearchResultCache newsSearchResultCache = mock(NewsSearchResultCache.class);
+    private final NewsIndexer newsIndexer = new NewsIndexer(client, RequestOptions.DEFAULT, newsIndexRepository, newsBulkWriter,
+            mock(NewsCounterChangeTracker.class), newsSearchResultCache);
+
+    private final LocalDateTime restoredAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(newsIndexer, "batchSize", 2);
+        ReflectionTestUtils.setField(newsIndexer, "maxBatchesPerPoll", 5);
+        ReflectionTestUtils.setField(newsIndexer, "commitLagSeconds", 10L);
+        ReflectionTestUtils.setField(newsIndexer, "numberOfReplicas", 1);
+        ReflectionTestUtils.setField(newsIndexer, "reconcileWindowMinutes", 30L);
+        when(client.indices()).thenReturn(indicesClient);
+    }
+
+    @Test
+    @DisplayName("인덱스의 최신 문서로 high-water mark를 복원하고, 색인에 성공한 경우에만 mark를 올림")
+    void restoreAndAdvanceHighWaterMark() throws IOException {
+        //given, 인덱스의 최신 문서 (restoredAt, 5)
+        SearchResponse latest = searchResponse(hit("5", restoredAt.toInstant(ZoneOffset.UTC).toEpochMilli(), 5L));
+        when(client.search(any(SearchRequest.class), any(RequestOptions.class))).thenReturn(latest);
+        when(newsIndexRepository.findDocumentsCollectedAfter(eq(restoredAt), eq(5L), any(), eq(2)))
+                .thenReturn(List.of(document(6L, restoredAt.plusMinutes(1))));
+        when(newsIndexRepository.findDocumentsCollectedAfter(eq(restoredAt.plusMinutes(1)), eq(6L), any(), eq(2)))
+                .thenReturn(List.of(document(7L, restoredAt.plusMinutes(2))));
+
+        //when, 첫 주기는 성공, 두 번째 주기는 색인 실패
+        newsIndexer.indexNewNews();
+        doThrow(new RuntimeException("bulk 실패")).when(newsBulkWriter).write(anyList(), eq("news"));
+        newsIndexer.indexNewNews();
+        newsIndexer.indexNewNews();
+
+        //then, 실패한 주기에는 mark가 그대로이므로 같은 위치부터 다시 조회
+        verify(client, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        verify(newsIndexRepository, times(1)).findDocumentsCollectedAfter(eq(restoredAt), eq(5L), any(), eq(2));
+        verify(newsIndexRepository, times(2)).findDocumentsCollectedAfter(eq(restoredAt.plusMinutes(1)), eq(6L), any(), eq(2));
+        assertThat(ReflectionTestUtils.getField(newsIndexer, "lastNewsId")).isEqualTo(6L);
+        verify(newsSearchResultCache, times(1)).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("색인할 수 없는 뉴스가 있으면 high-water mark를 그 앞까지만 올리고 다음 주기에 그 뉴스부터 다시 색인")
+    void stopHighWaterMarkAtPermanentFailure() {
+        //given, mark는 (restoredAt, 5), 7은 매핑 오류로 색인할 수 없음
+        ReflectionTestUtils.setField(newsIndexer, "lastCollectedAt", restoredAt);
+        ReflectionTestUtils.setField(newsIndexer, "lastNewsId", 5L);
+        when(newsIndexRepository.findDocumentsCollectedAfter(eq(restoredAt), eq(5L), any(), eq(2)))
+                .thenReturn(List.of(document(6L, restoredAt.plusMinutes(1)), document(7L, restoredAt.plusMinutes(2))));
+        when(newsBulkWriter.write(anyList(), eq("news"))).thenReturn(List.of("7"));
+
+        //when
+        newsIndexer.indexNewNews();
+
+        //then, 같은 주기에 이후 뉴스를 조회하지 않고 7 앞에서 멈춤
+        assertThat(ReflectionTestUtils.getField(newsIndexer, "lastCollectedAt")).isEqualTo(restoredAt.plusMinutes(1));
+        assertThat(ReflectionTestUtils.getField(newsIndexer, "lastNewsId")).isEqualTo(6L);
+        verify(newsIndexRepository, never()).findDocumentsCollectedAfter(eq(restoredAt.plusMinutes(2)), eq(7L), any(), eq(2));
+        verify(newsSearchResultCache).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("high-water mark 이전에 늦게 커밋된 뉴스 중 인덱스에 없는 뉴스만 색인")
+    void reconcileLateCommittedNews() throws IOException {
+        //given, mark는 이미 (now, 100)까지 진행
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        ReflectionTestUtils.setField(newsIndexer, "lastCollectedAt", now);
+        ReflectionTestUtils.setField(newsIndexer, "lastNewsId", 100L);
+        when(newsIndexRepository.findDocumentsCollectedAfter(any(), eq(0L), eq(now), eq(2)))
+                .thenReturn(List.of(document(90L, now.minusMinutes(5)), document(91L, now.minusMinutes(4))));
+        when(newsIndexRepository.findDocumentsCollectedAfter(eq(now.minusMinutes(4)), eq(91L), eq(now), eq(2)))
+                .thenReturn(List.of());
+        //90은 이미 색인됨, 91은 commit lag보다 늦게 커밋되어 누락
+        SearchResponse indexed = searchResponse(hit("90"));
+        when(client.search(any(SearchRequest.class), any(RequestOptions.class))).thenReturn(indexed);
+
+        //when
+        newsIndexer.reconcileRecentNews();
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<? extends DocWriteRequest<?>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(newsBulkWriter).write(captor.capture(), eq("reconcile"));
+        assertThat(captor.getValue()).extracting(DocWriteRequest::id).containsExactly("91");
+        verify(newsSearchResultCache).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("전체 재색인 후 alias를 한 번의 요청으로 새 인덱스로 옮기고 이전 인덱스를 삭제")
+    void reindexSwapsAlias() throws IOException {
+        //given
+        when(newsIndexRepository.findDocumentsAfterId(0L, 2)).thenReturn(List.of(document(1L, restoredAt), document(2L, restoredAt)));
+        when(newsIndexRepository.findDocumentsAfterId(2L, 2)).thenReturn(List.of());
+        GetAliasesResponse aliases = mock(GetAliasesResponse.class);
+        when(aliases.getAliases()).thenReturn(Map.of("news_index_old", Set.of(AliasMetadata.builder(NewsIndexer.ALIAS).build())));
+        when(indicesClient.getAlias(any(GetAliasesRequest.class), any(RequestOptions.class))).thenReturn(aliases);
+
+        //when
+        newsIndexer.reindex("news_index_new");
+
+        //then
+        verify(indicesClient).create(argThat((CreateIndexRequest request) -> request.index().equals("news_index_new")), any(RequestOptions.class));
+        verify(newsBulkWriter).write(anyList(), eq("reindex"));
+
+        ArgumentCaptor<IndicesAliasesRequest> aliasCaptor = ArgumentCaptor.forClass(IndicesAliasesRequest.class);
+        verify(indicesClient).updateAliases(aliasCaptor.capture(), any(RequestOptions.class));
+        List<AliasActions> actions = aliasCaptor.getValue().getAliasActions();
+        assertThat(actions).hasSize(2);
+        assertThat(actions.get(0).actionType()).isEqualTo(AliasActions.Type.ADD);
+        assertThat(actions.get(0).indices()).containsExactly("news_index_new");
+        assertThat(actions.get(1).actionType()).isEqualTo(AliasActions.Type.REMOVE);
+        assertThat(actions.get(1).indices()).containsExactly("news_index_old");
+
+        ArgumentCaptor<DeleteIndexRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteIndexRequest.class);
+        verify(indicesClient).delete(deleteCaptor.capture(), any(RequestOptions.class));
+        assertThat(deleteCaptor.getValue().indices()).containsExactly("news_index_old");
+        verify(newsSearchResultCache).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("전체 재색인 중 색인할 수 없는 뉴스가 있으면 alias를 교체하지 않고 새 인덱스를 삭제")
+    void reindexFailureDeletesNewIndex() throws IOException {
+        //given
+        when(newsIndexRepository.findDocumentsAfterId(0L, 2)).thenReturn(List.of(document(1L, restoredAt), document(2L, restoredAt)));
+        when(newsBulkWriter.write(anyList(), eq("reindex"))).thenReturn(List.of("2"));
+        GetAliasesResponse aliases = mock(GetAliasesResponse.class);
+        when(aliases.getAliases()).thenReturn(Map.of("news_index_old", Set.of(AliasMetadata.builder(NewsIndexer.ALIAS).build())));
+        when(indicesClient.getAlias(any(GetAliasesRequest.class), any(RequestOptions.class))).thenReturn(aliases);
+
+        //when
+        assertThatThrownBy(() -> newsIndexer.reindex("news_index_new")).isInstanceOf(RuntimeException.class);
+
+        //then
+        verify(indicesClient, never()).updateAliases(any(IndicesAliasesRequest.class), any(RequestOptions.class));
+        ArgumentCaptor<DeleteIndexRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteIndexRequest.class);
+        verify(indicesClient).delete(deleteCaptor.capture(), any(RequestOptions.class));
+        assertThat(deleteCaptor.getValue().indices()).containsExactly("news_index_new");
+        verify(newsSearchResultCache, never()).bumpVersion();
+    }
+
+    private SearchResponse searchResponse(SearchHit... hits) {
+        SearchHits searchHits = mock(SearchHits.class);
+        when(searchHits.getHits()).thenReturn(hits);
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(searchHits);
+        return response;
+    }
+
+    private SearchHit hit(String id, Object... sortValues) {
+        SearchHit hit = mock(SearchHit.class);
+        when(hit.getId()).thenReturn(id);
+        when(hit.getSortValues()).thenReturn(sortValues);
+        return hit;
+    }
+
+    private NewsDocumentDto document(Long newsId, LocalDateTime collectedAt) {
+        return new NewsDocumentDto(newsId, "제목", "본문", NewsCategory.TECH, "미디어", collectedAt,
+                new BigDecimal("50"), new BigDecimal("60"), 0, 0, 0, 0, 0, BigDecimal.ZERO);
+    }
+}
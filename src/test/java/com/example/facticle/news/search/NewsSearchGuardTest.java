@@ -0,0 +1,66 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsSearchGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    //동시 호출 20, 실패율 50%, 최근 10건 기준
+    private final NewsSearchGuard guard = new NewsSearchGuard(20, 100, 50, 2000, 10, 30, meterRegistry);
+
+    @Test
+    @DisplayName("OpenSearch 검색이 실패하면 대체 검색 결과를 반환")
+    void fallbackOnFailure() {
+        List<Long> result = guard.execute(() -> {
+            throw new RuntimeException("OpenSearch 검색 실패");
+        }, () -> List.of(1L));
+
+        assertThat(result).containsExactly(1L);
+        assertThat(meterRegistry.counter("news.search.keyword", "source", "fallback", "reason", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패가 누적되면 circuit이 열리고, 이후에는 OpenSearch를 호출하지 않고 바로 대체 검색")
+    void circuitOpensAfterFailures() {
+        AtomicInteger openSearchCalls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            guard.execute(() -> {
+                openSearchCalls.incrementAndGet();
+                throw new RuntimeException("OpenSearch 검색 실패");
+            }, List::of);
+        }
+        assertThat(guard.isOpen()).isTrue();
+
+        List<Long> result = guard.execute(() -> {
+            openSearchCalls.incrementAndGet();
+            return List.of(1L);
+        }, () -> List.of(2L));
+
+        assertThat(result).containsExactly(2L);
+        assertThat(openSearchCalls.get()).isEqualTo(10);
+        assertThat(meterRegistry.counter("news.search.keyword", "source", "fallback", "reason", "circuit_open").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 입력(손상된 커서 등)은 대체 검색하지 않고 그대로 던지고, 실패로 집계하지 않음")
+    void invalidInputIsNotFailure() {
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                throw new InvalidInputException("invalid input", Map.of("cursor", "invalid cursor"));
+            }, () -> List.of(1L))).isInstanceOf(InvalidInputException.class);
+        }
+
+        assertThat(guard.isOpen()).isFalse();
+        assertThat(meterRegistry.find("news.search.keyword").tag("source", "fallback").counter()).isNull();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.*;
+import com.example.facticle.news.entity.NewsCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpenSearch 컨테이너 없이 생성되는 쿼리만 검증
+ */
+class NewsSearchQueryBuilderTest {
+
+    @Test
+    @DisplayName("키워드가 있으면 카운터 필터/정렬을 포함해 OpenSearch에서 처리")
+    void supports() {
+        assertThat(NewsSearchQueryBuilder.supports(NewsSearchCondition.builder()
+                .titleKeyword(List.of("경제")).build())).isTrue();
+        assertThat(NewsSearchQueryBuilder.supports(NewsSearchCondition.builder()
+                .titleKeyword(List.of("경제")).minLikes(10).sortBy(SortBy.VIEW_COUNT).build())).isTrue();
+
+        //키워드 없음
+        assertThat(NewsSearchQueryBuilder.supports(NewsSearchCondition.builder()
+                .categories(List.of(NewsCategory.ECONOMY)).build())).isFalse();
+    }
+
+    @Test
+    @DisplayName("카운터 필터와 정렬이 쿼리에 포함되고, 평점 필터는 평점이 있는 뉴스만 포함")
+    void buildCounterQuery() {
+        NewsSearchCondition condition = NewsSearchCondition.builder()
+                .titleKeyword(List.of("금리"))
+                .minLikes(10)
+                .maxViews(1000)
+                .maxRating(new BigDecimal("3.04"))
+                .sortBy(SortBy.LIKE_COUNT)
+                .build();
+
+        SearchSourceBuilder source = NewsSearchQueryBuilder.build(condition);
+        String json = source.toString();
+
+        assertThat(json).contains("\"like_count\"", "\"view_count\"", "\"average_rating\"", "\"rating_count\"");
+        assertThat(source.sorts().get(0).toString()).contains("like_count", "desc");
+        assertThat(source.sorts().get(1).toString()).contains("news_id", "desc");
+    }
+
+    @Test
+    @DisplayName("카운터 정렬의 커서는 정수 정렬 값으로 search_after 설정")
+    void buildCounterCursorQuery() {
+        String cursor = new NewsSearchCursor(SortBy.VIEW_COUNT, SortDirection.DESC, "120", 42L).encode();
+        NewsSearchCondition condition = NewsSearchCondition.builder()
+                .contentKeyword(List.of("반도체"))
+                .sortBy(SortBy.VIEW_COUNT)
+                .pagingMode(PagingMode.CURSOR)
+                .cursor(cursor)
+                .size(20)
+                .build();
+
+        assertThat(NewsSearchQueryBuilder.build(condition).searchAfter()).containsExactly(120L, 42L);
+    }
+
+    @Test
+    @DisplayName("필터와 정렬, offset 페이징이 모두 쿼리에 포함")
+    void buildOffsetQuery() {
+        NewsSearchCondition condition = NewsSearchCondition.builder()
+                .titleKeyword(List.of("금리"))
+                .titleOrContentKeyword(List.of("한국은행", "기준금리"))
+                .categories(List.of(NewsCategory.ECONOMY))
+                .publishers(List.of("뉴스미디어1"))
+                .startDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .minFsScore(new BigDecimal("70"))
+                .sortBy(SortBy.FACT_SCORE)
+                .sortDirection(SortDirection.ASC)
+                .page(2)
+                .size(10)
+                .build();
+
+        SearchSourceBuilder source = NewsSearchQueryBuilder.build(condition);
+        String json = source.toString();
+
+        assertThat(source.from()).isEqualTo(20);
+        assertThat(source.size()).isEqualTo(10);
+        assertThat(json).contains("\"category\":[\"ECONOMY\"]", "\"media_name\":[\"뉴스미디어1\"]",
+                "\"collected_at\"", "\"fact_score\"", "\"minimum_should_match\":\"1\"", "2025-01-01T00:00:00");
+        assertThat(source.sorts()).hasSize(2);
+        assertThat(source.sorts().get(0).toString()).contains("fact_score", "asc");
+        assertThat(source.sorts().get(1).toString()).contains("news_id", "asc");
+        assertThat(source.fetchSource().fetchSource()).isFalse();
+        assertThat(source.trackTotalHitsUpTo()).isEqualTo(SearchContext.TRACK_TOTAL_HITS_ACCURATE);
+    }
+
+    @Test
+    @DisplayName("커서 페이징은 size + 1개를 조회하고 커서의 정렬 값으로 search_after 설정")
+    void buildCursorQuery() {
+        String cursor = new NewsSearchCursor(SortBy.COLLECTED_AT, SortDirection.DESC, "1735689600000", 42L).encode();
+        NewsSearchCondition condition = NewsSearchCondition.builder()
+                .contentKeyword(List.of("반도체"))
+                .pagingMode(PagingMode.CURSOR)
+                .cursor(cursor)
+                .size(20)
+                .build();
+
+        SearchSourceBuilder source = NewsSearchQueryBuilder.build(condition);
+
+        assertThat(source.size()).isEqualTo(21);
+        assertThat(source.searchAfter()).containsExactly(1735689600000L, 42L);
+        assertThat(source.trackTotalHitsUpTo()).isNull();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.facticle.news.search;
+
+import com.example.facticle.news.dto.NewsSearchCondition;
+import com.example.facticle.news.dto.PagingMode;
+import com.example.facticle.news.dto.SortBy;
+import com.example.facticle.news.entity.NewsCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsSearchResultCacheTest {
+
+    //버전 확인(checkIndexVersion)은 사용하지 않으므로 OpenSearch 클라이언트 없이 생성
+    private final NewsSearchResultCache cache = new NewsSearchResultCache(100, 60, null, null, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("같은 검색 조건에 대한 동시 cache miss는 한 번만 검색")
+    void singleFlight() throws Exception {
+        AtomicInteger searchCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        List<Future<NewsSearchResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return cache.get(title("금리").build(), condition -> {
+                    searchCount.incrementAndGet();
+                    return CompletableFuture.supplyAsync(() -> {
+                        sleep(200); //느린 OpenSearch 응답
+                        return result(1L, 2L, 3L);
+                    });
+                }).join();
+            }));
+        }
+        start.countDown();
+
+        for (Future<NewsSearchResult> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getNewsIds()).containsExactly(1L, 2L, 3L);
+        }
+        executor.shutdown();
+        assertThat(searchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키워드, 언론사, 카테고리의 순서, 중복, 공백이 달라도 같은 키")
+    void normalizedKey() {
+        AtomicInteger searchCount = new AtomicInteger();
+
+        cache.get(title("금리", "한국은행").publishers(List.of("A", "B")).categories(List.of(NewsCategory.TECH, NewsCategory.ECONOMY))
+                .minHsScore(new BigDecimal("4.0")).build(), condition -> completed(searchCount.incrementAndGet()));
+        cache.get(title(" 한국은행", "금리", "금리").publishers(List.of("B", "A")).categories(List.of(NewsCategory.ECONOMY, NewsCategory.TECH))
+                .minHsScore(new BigDecimal("4.00")).build(), condition -> completed(searchCount.incrementAndGet()));
+
+        assertThat(searchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키워드 종류, 필터, 정렬, 페이지, 커서가 다르면 다른 키")
+    void conditionsAreKeyed() {
+        AtomicInteger searchCount = new AtomicInteger();
+        List<NewsSearchCondition> conditions = List.of(
+                title("금리").build(),
+                NewsSearchCondition.builder().contentKeyword(List.of("금리")).build(),
+                title("금리").minLikes(10).build(),
+                title("금리").sortBy(SortBy.LIKE_COUNT).build(),
+                title("금리").page(1).build(),
+                title("금리").pagingMode(PagingMode.CURSOR).build(),
+                title("금리").pagingMode(PagingMode.CURSOR).cursor("next").build());
+
+        conditions.forEach(condition -> cache.get(condition, c -> completed(searchCount.incrementAndGet())).join());
+        conditions.forEach(condition -> cache.get(condition, c -> completed(searchCount.incrementAndGet())).join());
+
+        assertThat(searchCount.get()).isEqualTo(conditions.size());
+    }
+
+    @Test
+    @DisplayName("구분자가 포함된 키워드는 여러 키워드와 다른 키, loader는 정규화된 조건으로 검색")
+    void structuredKeyAndNormalizedLoad() {
+        List<NewsSearchCondition> loaded = new ArrayList<>();
+
+        cache.get(title("a,b").build(), condition -> {
+            loaded.add(condition);
+            return completed(1L);
+        });
+        cache.get(title(" b", "a", "a").build(), condition -> {
+            loaded.add(condition);
+            return completed(2L);
+        });
+
+        assertThat(loaded).extracting(NewsSearchCondition::getTitleKeyword)
+                .containsExactly(List.of("a,b"), List.of("a", "b"));
+        assertThat(loaded.get(1).getContentKeyword()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전이 올라가면 이전 검색 결과를 사용하지 않음")
+    void bumpVersion() {
+        assertThat(cache.get(title("금리").build(), condition -> completed(1L)).join().getNewsIds()).containsExactly(1L);
+
+        cache.bumpVersion();
+
+        assertThat(cache.get(title("금리").build(), condition -> completed(1L, 2L)).join().getNewsIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색이 실패(시간 초과 등)하면 결과를 캐시하지 않고 다음 요청에서 다시 검색")
+    void failedSearchIsNotCached() {
+        CompletableFuture<NewsSearchResult> failed = cache.get(title("금리").build(),
+                condition -> CompletableFuture.failedFuture(new RuntimeException("OpenSearch 검색 시간 초과")));
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class);
+
+        assertThat(cache.get(title("금리").build(), condition -> completed(1L, 2L)).join().getNewsIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색 요청 전에 발생한 입력 오류는 future로 감싸지 않고 그대로 던지고 캐시하지 않음")
+    void loaderExceptionIsThrown() {
+        assertThatThrownBy(() -> cache.get(title("금리").build(), condition -> {
+            throw new IllegalArgumentException("손상된 커서");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(title("금리").build(), condition -> completed(1L)).join().getNewsIds()).containsExactly(1L);
+    }
+
+    private NewsSearchCondition.NewsSearchConditionBuilder title(String... keywords) {
+        return NewsSearchCondition.builder().titleKeyword(List.of(keywords));
+    }
+
+    private NewsSearchResult result(long... newsIds) {
+        return new NewsSearchResult(Arrays.stream(newsIds).boxed().toList(), newsIds.length, null);
+    }
+
+    private CompletableFuture<NewsSearchResult> completed(long... newsIds) {
+        return CompletableFuture.completedFuture(result(newsIds));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import com.example.facticle.news.dto.CommentCursor;
+import com.example.facticle.news.dto.CommentSortBy;
+import com.example.facticle.news.dto.GetCommentDto;
+import com.example.facticle.news.dto.GetCommentInteractionDto;
+import com.example.facticle.news.dto.GetCommentResponseDto;
+import com.example.facticle.news.entity.Comment;
+import com.example.facticle.news.entity.CommentInteraction;
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsCategory;
+import com.example.facticle.news.entity.ReactionType;
+import com.example.facticle.news.repository.jpa.CommentInteractionRepository;
+import com.example.facticle.news.repository.jpa.CommentRepository;
+import com.example.facticle.news.repository.jpa.NewsRepository;
+import com.example.facticle.user.entity.LocalAuth;
+import com.example.facticle.user.entity.SignupType;
+import com.example.facticle.user.entity.User;
+import com.example.facticle.user.entity.UserRole;
+import com.example.facticle.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CommentPagingTest {
+
+    @Autowired
+    NewsService newsService;
+    @Autowired
+    NewsRepository newsRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    CommentInteractionRepository commentInteractionRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private News news;
+    private User user;
+
+    @BeforeAll
+    static void setTime() {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .localAuth(new LocalAuth("user1", "password1!"))
+                .nickname("nick1")
+                .profileImageKey("profiles/default.png")
+                .profileImageUrl("https://example.com/profiles/default.png")
+                .role(UserRole.USER)
+                .signupType(SignupType.LOCAL)
+                .build());
+
+        news = newsRepository.save(News.builder()
+                .url("https://news.example.com/comment-paging")
+                .title("댓글 페이징 뉴스")
+                .summary("요약")
+                .category(NewsCategory.ECONOMY)
+                .headlineScore(new BigDecimal("85.50"))
+                .factScore(new BigDecimal("90.20"))
+                .headlineScoreReason("hs 이유")
+                .factScoreReason("fs 이유")
+                .build());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글은 답글 없이 답글 수와 함께 커서 페이징, 답글은 별도로 커서 페이징")
+    void pagingRootCommentsAndReplies() {
+        //given
+        List<Long> rootIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rootIds.add(newsService.createComment(news.getNewsId(), user.getUserId(), "댓글 " + i).getCommentId());
+        }
+        List<Long> replyIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            replyIds.add(newsService.createReplyComment(news.getNewsId(), rootIds.get(1), user.getUserId(), "답글 " + i).getCommentId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<GetCommentDto> roots = new ArrayList<>();
+        String cursor = null;
+        do {
+            GetCommentResponseDto page = newsService.getComments(news.getNewsId(), user.getUserId(), CommentSortBy.LATEST, cursor, 2);
+            roots.addAll(page.getGetCommentDtos());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        GetCommentResponseDto firstReplies = newsService.getReplies(news.getNewsId(), rootIds.get(1), null, null, 2);
+        GetCommentResponseDto lastReplies = newsService.getReplies(news.getNewsId(), rootIds.get(1), null, firstReplies.getNextCursor(), 2);
+
+        //then
+        assertThat(roots).extracting(GetCommentDto::getCommentId).containsExactlyElementsOf(rootIds);
+        assertThat(roots).extracting(GetCommentDto::getReplyCount).containsExactly(0L, 3L, 0L, 0L, 0L);
+        assertThat(firstReplies.getGetCommentDtos()).extracting(GetCommentDto::getCommentId).containsExactly(replyIds.get(0), replyIds.get(1));
+        assertThat(lastReplies.getGetCommentDtos()).extracting(GetCommentDto::getCommentId).containsExactly(replyIds.get(2));
+        assertThat(lastReplies.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("답글 작성, 삭제 시 답글 수와 path를 유지하고 하위 답글까지 포함한 수만큼 뉴스 댓글 수를 감소")
+    void maintainReplyCountAndPath() {
+        //given, root <- reply <- nestedReply
+        Long rootId = newsService.createComment(news.getNewsId(), user.getUserId(), "댓글").getCommentId();
+        Long replyId = newsService.createReplyComment(news.getNewsId(), rootId, user.getUserId(), "답글").getCommentId();
+        Long nestedReplyId = newsService.createReplyComment(news.getNewsId(), replyId, user.getUserId(), "답글의 답글").getCommentId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Comment nestedReply = entityManager.find(Comment.class, nestedReplyId);
+        assertThat(nestedReply.getPath()).isEqualTo("/" + rootId + "/" + replyId + "/" + nestedReplyId + "/");
+        assertThat(nestedReply.getDepth()).isEqualTo(2);
+        assertThat(entityManager.find(Comment.class, rootId).getReplyCount()).isEqualTo(1);
+        assertThat(entityManager.find(News.class, news.getNewsId()).getCommentCount()).isEqualTo(3);
+        entityManager.clear();
+
+        //when
+        newsService.deleteComment(news.getNewsId(), replyId, user.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        assertThat(entityManager.find(Comment.class, nestedReplyId)).isNull();
+        assertThat(entityManager.find(Comment.class, rootId).getReplyCount()).isZero();
+        assertThat(entityManager.find(News.class, news.getNewsId()).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("답글은 최대 depth까지만 작성 가능")
+    void replyDepthLimit() {
+        //given, depth 0 ~ MAX_DEPTH까지의 답글 체인
+        Long parentId = newsService.createComment(news.getNewsId(), user.getUserId(), "댓글").getCommentId();
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            parentId = newsService.createReplyComment(news.getNewsId(), parentId, user.getUserId(), "답글 " + depth).getCommentId();
+        }
+        Long deepestId = parentId;
+        entityManager.flush();
+        entityManager.clear();
+
+        //when, then
+        assertThat(entityManager.find(Comment.class, deepestId).getDepth()).isEqualTo(Comment.MAX_DEPTH);
+        assertThatThrownBy(() -> newsService.createReplyComment(news.getNewsId(), deepestId, user.getUserId(), "답글"))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("applyReactionDelta의 SQL로 계산한 추천 점수는 기준 식(Comment.wilsonScore)과 같음")
+    void reactionDeltaMatchesWilsonScore() {
+        int[][] reactions = {{1, 0}, {0, 1}, {1, 1}, {3, 7}, {20, 2}, {95, 5}, {1000, 1}};
+        List<Long> commentIds = new ArrayList<>();
+        for (int[] reaction : reactions) {
+            Long commentId = newsService.createComment(news.getNewsId(), user.getUserId(), "댓글").getCommentId();
+            commentRepository.applyReactionDelta(commentId, reaction[0], reaction[1]);
+            commentIds.add(commentId);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int i = 0; i < reactions.length; i++) {
+            Comment comment = entityManager.find(Comment.class, commentIds.get(i));
+            assertThat(comment.getBestScore()).as("likes %d, hates %d", reactions[i][0], reactions[i][1])
+                    .isCloseTo(Comment.wilsonScore(reactions[i][0], reactions[i][1]), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 반응은 UPDATE로 원자적으로 반영되어 같은 트랜잭션에서 반영된 답글 수를 덮어쓰지 않음")
+    void reactionDoesNotOverwriteReplyCount() {
+        //given, 답글 수는 UPDATE로 반영되어 영속성 컨텍스트의 댓글 엔티티는 replyCount 0인 상태
+        Long rootId = newsService.createComment(news.getNewsId(), user.getUserId(), "댓글").getCommentId();
+        newsService.createReplyComment(news.getNewsId(), rootId, user.getUserId(), "답글");
+
+        //when
+        newsService.likeComment(rootId, user.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+        Comment liked = entityManager.find(Comment.class, rootId);
+        entityManager.clear();
+        newsService.hateComment(rootId, user.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+        Comment hated = entityManager.find(Comment.class, rootId);
+
+        //then
+        assertThat(liked.getReplyCount()).isEqualTo(1);
+        assertThat(liked.getLikeCount()).isEqualTo(1);
+        assertThat(liked.getBestScore()).isCloseTo(Comment.wilsonScore(1, 0), within(1e-9));
+        assertThat(hated.getReplyCount()).isEqualTo(1);
+        assertThat(hated.getLikeCount()).isZero();
+        assertThat(hated.getHateCount()).isEqualTo(1);
+        assertThat(hated.getBestScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("유저의 댓글 반응은 현재 페이지의 댓글에 대해서만 포함")
+    void commentInteractionsOfPage() {
+        //given
+        List<Long> rootIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            rootIds.add(newsService.createComment(news.getNewsId(), user.getUserId(), "댓글 " + i).getCommentId());
+        }
+        newsService.likeComment(rootIds.get(0), user.getUserId());
+        newsService.hateComment(rootIds.get(3), user.getUserId());
+        newsService.likeComment(rootIds.get(1), user.getUserId());
+        newsService.unlikeComment(rootIds.get(1), user.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        GetCommentResponseDto firstPage = newsService.getComments(news.getNewsId(), user.getUserId(), CommentSortBy.LATEST, null, 2);
+        GetCommentResponseDto lastPage = newsService.getComments(news.getNewsId(), user.getUserId(), CommentSortBy.LATEST, firstPage.getNextCursor(), 2);
+
+        //then, 반응을 취소한 댓글은 제외
+        assertThat(firstPage.getGetCommentInteractionDtos())
+                .extracting(GetCommentInteractionDto::getCommentId, GetCommentInteractionDto::getReaction)
+                .containsExactly(tuple(rootIds.get(0), ReactionType.LIKE));
+        assertThat(lastPage.getGetCommentInteractionDtos())
+                .extracting(GetCommentInteractionDto::getCommentId, GetCommentInteractionDto::getUserId, GetCommentInteractionDto::getReaction)
+                .containsExactly(tuple(rootIds.get(3), user.getUserId(), ReactionType.HATE));
+    }
+
+    /**
+     * 댓글 2만 개, 유저가 그중 절반에 반응한 뉴스에서 유저의 댓글 반응 조회 방식 비교
+     * - IN 절: 댓글 엔티티 2만 개를 IN 절로 바인딩(기존 findAllByUserAndComments)
+     * - 조인: news_id 조인 + projection(유저의 뉴스 전체 반응)
+     * - 페이지 IN 절: 한 페이지(100개) 댓글 id만 IN 절로 바인딩(findReactionsByUserAndComments)
+     * 적재에 시간이 걸리므로 -Dnews.comment.benchmark=true 일 때만 실행 (건수는 -Dnews.comment.benchmark.rows 로 조정)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.comment.benchmark", matches = "true")
+    @DisplayName("댓글 반응 조회 IN 절 vs news_id 조인 vs 페이지 IN 절 벤치마크")
+    void commentReactionBenchmark() {
+        int rows = Integer.getInteger("news.comment.benchmark.rows", 20_000);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0));
+        List<Object[]> commentRows = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            commentRows.add(new Object[]{news.getNewsId(), user.getUserId(), "benchmark " + i, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (news_id, user_id, content, like_count, hate_count, best_score, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 0, 0, 0, ?, ?)", commentRows);
+        List<Long> commentIds = jdbcTemplate.queryForList("SELECT comment_id FROM comments WHERE news_id = ? ORDER BY comment_id", Long.class, news.getNewsId());
+        List<Object[]> interactionRows = new ArrayList<>();
+        for (int i = 0; i < commentIds.size(); i += 2) {
+            interactionRows.add(new Object[]{user.getUserId(), commentIds.get(i), i % 4 == 0 ? "LIKE" : "HATE", createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comment_interactions (user_id, comment_id, reaction, reaction_at) VALUES (?, ?, ?, ?)", interactionRows);
+
+        List<Comment> comments = entityManager.createQuery("SELECT c FROM Comment c WHERE c.news.newsId = :newsId", Comment.class)
+                .setParameter("newsId", news.getNewsId())
+                .getResultList();
+        User userReference = entityManager.getReference(User.class, user.getUserId());
+
+        Runnable inList = () -> entityManager.createQuery("SELECT ci FROM CommentInteraction ci WHERE ci.user = :user AND ci.comment IN :comments", CommentInteraction.class)
+                .setParameter("user", userReference)
+                .setParameter("comments", comments)
+                .getResultList();
+        Runnable join = () -> entityManager.createQuery("SELECT ci.commentInteractionId, c.commentId, ci.reaction FROM CommentInteraction ci JOIN ci.comment c " +
+                        "WHERE ci.user.userId = :userId AND c.news.newsId = :newsId AND ci.reaction IS NOT NULL")
+                .setParameter("userId", user.getUserId())
+                .setParameter("newsId", news.getNewsId())
+                .getResultList();
+        List<Long> pageCommentIds = commentIds.subList(commentIds.size() - 100, commentIds.size());
+        Runnable pageInList = () -> commentInteractionRepository.findReactionsByUserAndComments(user.getUserId(), pageCommentIds);
+
+        log.info("in-list ({} params) : {} ms", comments.size() + 1, measure(inList));
+        log.info("news_id join        : {} ms", measure(join));
+        log.info("page in-list        : {} ms", measure(pageInList));
+        jdbcTemplate.queryForList("EXPLAIN SELECT ci.comment_interaction_id, c.comment_id, ci.reaction FROM comment_interactions ci " +
+                        "JOIN comments c ON c.comment_id = ci.comment_id WHERE ci.user_id = ? AND c.news_id = ? AND ci.reaction IS NOT NULL",
+                user.getUserId(), news.getNewsId()).forEach(plan -> log.info("explain : {}", plan));
+    }
+
+    @Test
+    @DisplayName("손상된 커서나 허용 범위를 벗어난 size는 InvalidInputException")
+    void invalidCursorOrSize() {
+        assertThatThrownBy(() -> newsService.getComments(news.getNewsId(), null, CommentSortBy.LATEST, "not-a-cursor", 20))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> newsService.getComments(news.getNewsId(), null, CommentSortBy.LATEST, null, 1000))
+                .isInstanceOf(InvalidInputException.class);
+        //정렬 기준이 다른 커서
+        String topCursor = CommentCursor.top(0.5, 1L).encode();
+        assertThatThrownBy(() -> newsService.getComments(news.getNewsId(), null, CommentSortBy.LATEST, topCursor, 20))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("추천순은 Wilson score 내림차순(같으면 최신 댓글 먼저)으로 커서 페이징")
+    void pagingRootCommentsByBestScore() {
+        //given, (좋아요, 싫어요) = (1, 0), (20, 2), (0, 3), (0, 0), (5, 0)
+        int[][] reactions = {{1, 0}, {20, 2}, {0, 3}, {0, 0}, {5, 0}};
+        List<Long> rootIds = new ArrayList<>();
+        for (int[] reaction : reactions) {
+            Comment comment = Comment.builder()
+                    .content("댓글")
+                    .likeCount(reaction[0])
+                    .hateCount(reaction[1])
+                    .bestScore(Comment.wilsonScore(reaction[0], reaction[1]))
+                    .build();
+            comment.updateUser(user);
+            comment.updateNews(news);
+            entityManager.persist(comment);
+            comment.initPath();
+            rootIds.add(comment.getCommentId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        do {
+            GetCommentResponseDto page = newsService.getComments(news.getNewsId(), null, CommentSortBy.TOP, cursor, 2);
+            page.getGetCommentDtos().forEach(dto -> actual.add(dto.getCommentId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        //then, 반응이 많은 (20, 2)가 (1, 0)보다 위, 점수가 0인 (0, 3), (0, 0)은 최신 댓글 먼저
+        assertThat(actual).containsExactly(rootIds.get(1), rootIds.get(4), rootIds.get(0), rootIds.get(3), rootIds.get(2));
+    }
+
+    //워밍업 후 5회 평균(1차 캐시에 쌓이지 않도록 매번 clear)
+    private double measure(Runnable query) {
+        query.run();
+        entityManager.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            query.run();
+            entityManager.clear();
+        }
+        return (System.nanoTime() - start) / 5 / 1_000_000.0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.news.dto.GetNewsDto;
+import com.example.facticle.news.dto.NewsCounterDto;
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsDetailCacheTest {
+
+    private final NewsDetailCache newsDetailCache = new NewsDetailCache(100, 30, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("캐시된 상세 정보에 최신 카운터를 덮어쓴 복사본을 사용하고, 캐시된 값은 변경되지 않음")
+    void mergeCountersIntoCachedDetail() {
+        newsDetailCache.put(news(1L));
+
+        GetNewsDto cached = newsDetailCache.getIfPresent(1L);
+        GetNewsDto merged = cached.withCounters(new NewsCounterDto(10, 2, 5, 100, 4, new BigDecimal("3.75"), null));
+
+        assertThat(merged.getTitle()).isEqualTo("뉴스 제목");
+        assertThat(merged.getFactScoreReason()).isEqualTo("fs 이유");
+        assertThat(merged.getLikeCount()).isEqualTo(10);
+        assertThat(merged.getHateCount()).isEqualTo(2);
+        assertThat(merged.getCommentCount()).isEqualTo(5);
+        assertThat(merged.getViewCount()).isEqualTo(100);
+        assertThat(merged.getRatingCount()).isEqualTo(4);
+        assertThat(merged.getRating()).isEqualByComparingTo("3.8");
+
+        //다른 요청이 공유하는 캐시 값은 그대로
+        assertThat(newsDetailCache.getIfPresent(1L)).isSameAs(cached);
+        assertThat(cached.getLikeCount()).isZero();
+        assertThat(cached.getViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidate한 뉴스는 캐시에서 제거")
+    void invalidate() {
+        newsDetailCache.put(news(1L));
+        newsDetailCache.put(news(2L));
+
+        newsDetailCache.invalidate(1L);
+
+        assertThat(newsDetailCache.getIfPresent(1L)).isNull();
+        assertThat(newsDetailCache.getIfPresent(2L)).isNotNull();
+    }
+
+    private News news(Long newsId) {
+        News news = News.builder()
+                .url("https://news.example.com/" + newsId)
+                .title("뉴스 제목")
+                .summary("뉴스 요약")
+                .category(NewsCategory.TECH)
+                .headlineScore(new BigDecimal("80.00"))
+                .factScore(new BigDecimal("80.00"))
+                .headlineScoreReason("hs 이유")
+                .factScoreReason("fs 이유")
+                .collectedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+        ReflectionTestUtils.setField(news, "newsId", newsId);
+        return news;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsCategory;
+import com.example.facticle.news.entity.NewsInteraction;
+import com.example.facticle.news.repository.jpa.NewsInteractionRepository;
+import com.example.facticle.news.repository.jpa.NewsRepository;
+import com.example.facticle.user.entity.LocalAuth;
+import com.example.facticle.user.entity.SignupType;
+import com.example.facticle.user.entity.User;
+import com.example.facticle.user.entity.UserRole;
+import com.example.facticle.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+//여러 스레드에서 커밋된 결과를 확인해야 하므로 @Transactional을 사용하지 않고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+class NewsReactionConcurrencyTest {
+
+    private static final int USER_COUNT = 300;
+
+    @Autowired
+    NewsService newsService;
+    @Autowired
+    NewsRepository newsRepository;
+    @Autowired
+    NewsInteractionRepository newsInteractionRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    private News news;
+    private List<User> users;
+
+    @BeforeAll
+    static void setTime() {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        news = newsRepository.save(News.builder()
+                .url("https://news.example.com/reaction-article")
+                .title("리액션 테스트 뉴스")
+                .summary("리액션 테스트 뉴스의 요약")
+                .category(NewsCategory.POLITICS)
+                .headlineScore(new BigDecimal("70.00"))
+                .factScore(new BigDecimal("70.00"))
+                .headlineScoreReason("hs 이유")
+                .factScoreReason("fs 이유")
+                .build());
+
+        users = new ArrayList<>();
+        List<NewsInteraction> interactions = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = User.builder()
+                    .localAuth(new LocalAuth("reactionUser" + i, "password"))
+                    .nickname("reactionNick" + i)
+                    .profileImageKey("profiles/default.png")
+                    .profileImageUrl("https://example.com/profiles/default.png")
+                    .role(UserRole.USER)
+                    .signupType(SignupType.LOCAL)
+                    .build();
+            users.add(user);
+            interactions.add(NewsInteraction.builder().user(user).news(news).build());
+        }
+        userRepository.saveAll(users);
+        newsInteractionRepository.saveAll(interactions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        newsInteractionRepository.deleteAllInBatch();
+        newsRepository.deleteById(news.getNewsId());
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    @DisplayName("여러 유저가 동시에 좋아요/싫어요/평점을 남겨도 카운터가 정확해야 함")
+    void concurrentReactions() throws InterruptedException {
+        Long newsId = news.getNewsId();
+
+        //짝수 유저는 좋아요, 홀수 유저는 싫어요 후 좋아요로 변경, 모든 유저는 평점 4.0
+        runConcurrently(users.size(), i -> {
+            Long userId = users.get(i).getUserId();
+            if (i % 2 == 0) {
+                newsService.likeNews(newsId, userId);
+            } else {
+                newsService.hateNews(newsId, userId);
+                newsService.likeNews(newsId, userId);
+            }
+            newsService.rateNews(newsId, userId, new BigDecimal("4.0"));
+        });
+
+        News result = newsRepository.findById(newsId).orElseThrow();
+        Assertions.assertThat(result.getLikeCount()).isEqualTo(USER_COUNT);
+        Assertions.assertThat(result.getHateCount()).isZero();
+        Assertions.assertThat(result.getRatingCount()).isEqualTo(USER_COUNT);
+        Assertions.assertThat(result.getTotalRatingSum()).isEqualByComparingTo(new BigDecimal("4.0").multiply(BigDecimal.valueOf(USER_COUNT)));
+    }
+
+    @Test
+    @DisplayName("같은 유저의 중복 좋아요 요청은 한 번만 반영되어야 함")
+    void concurrentDuplicateLikes() throws InterruptedException {
+        Long newsId = news.getNewsId();
+        Long userId = users.get(0).getUserId();
+        AtomicInteger failCount = new AtomicInteger();
+
+        runConcurrently(50, i -> {
+            try {
+                newsService.likeNews(newsId, userId);
+            } catch (RuntimeException e) {
+                failCount.incrementAndGet();
+            }
+        });
+
+        News result = newsRepository.findById(newsId).orElseThrow();
+        Assertions.assertThat(result.getLikeCount()).isEqualTo(1);
+        Assertions.assertThat(failCount.get()).isEqualTo(49);
+    }
+
+    private void runConcurrently(int taskCount, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.accept(index);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+    }
+}
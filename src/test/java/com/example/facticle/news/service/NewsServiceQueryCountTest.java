@@ -0,0 +1,133 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.common.exception.InvalidInputException;
+import com.example.facticle.news.dto.GetNewsResponseDto;
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsCategory;
+import com.example.facticle.news.repository.jpa.NewsRepository;
+import com.example.facticle.user.entity.LocalAuth;
+import com.example.facticle.user.entity.SignupType;
+import com.example.facticle.user.entity.User;
+import com.example.facticle.user.entity.UserRole;
+import com.example.facticle.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.TimeZone;
+
+//뉴스 상세 조회 1회당 실행되는 SQL 수를 Hibernate 통계로 검증
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NewsServiceQueryCountTest {
+
+    @Autowired
+    NewsService newsService;
+    @Autowired
+    NewsRepository newsRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private News news;
+    private User user;
+
+    @BeforeAll
+    static void setTime() {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(User.builder()
+                .localAuth(new LocalAuth("user1", "password1!"))
+                .nickname("nick1")
+                .profileImageKey("profiles/default.png")
+                .profileImageUrl("https://example.com/profiles/default.png")
+                .role(UserRole.USER)
+                .signupType(SignupType.LOCAL)
+                .build());
+
+        news = newsRepository.save(News.builder()
+                .url("https://news.example.com/article1")
+                .title("첫 번째 뉴스 제목")
+                .summary("첫 번째 뉴스의 요약")
+                .category(NewsCategory.ECONOMY)
+                .headlineScore(new BigDecimal("85.50"))
+                .factScore(new BigDecimal("90.20"))
+                .headlineScoreReason("hs 이유")
+                .factScoreReason("fs 이유")
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("유저의 첫 조회 - 뉴스+인터랙션 조회 1회, 유저 존재 확인 1회, 인터랙션 저장 1회")
+    void firstViewByUser() {
+        long count = countStatements(() -> newsService.getNews(news.getNewsId(), user.getUserId(), null, new MockHttpServletResponse()));
+
+        Assertions.assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제된 유저의 첫 조회 - FK 위반 대신 user not found")
+    void firstViewByDeletedUser() {
+        userRepository.deleteById(user.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Assertions.assertThatThrownBy(() -> newsService.getNews(news.getNewsId(), user.getUserId(), null, new MockHttpServletResponse()))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("유저의 재조회 - 뉴스+인터랙션 조회 1회, viewedAt 수정 1회")
+    void repeatedViewByUser() {
+        newsService.getNews(news.getNewsId(), user.getUserId(), null, new MockHttpServletResponse());
+        entityManager.flush();
+        entityManager.clear();
+
+        long count = countStatements(() -> {
+            GetNewsResponseDto responseDto = newsService.getNews(news.getNewsId(), user.getUserId(), null, new MockHttpServletResponse());
+            Assertions.assertThat(responseDto.getGetNewsInteractionDto()).isNotNull();
+        });
+
+        Assertions.assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비회원 조회 - 뉴스 조회 1회")
+    void viewByGuest() {
+        long count = countStatements(() -> newsService.getNews(news.getNewsId(), null, null, new MockHttpServletResponse()));
+
+        Assertions.assertThat(count).isEqualTo(1);
+    }
+
+    private long countStatements(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
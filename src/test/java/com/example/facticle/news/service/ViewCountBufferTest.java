@@ -0,0 +1,175 @@
+package com.example.facticle.news.service;
+
+import com.example.facticle.news.entity.News;
+import com.example.facticle.news.entity.NewsCategory;
+import com.example.facticle.news.repository.jpa.NewsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+//여러 스레드에서 커밋된 데이터를 확인해야 하므로 @Transactional을 사용하지 않고 직접 정리
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class ViewCountBufferTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int VIEWS_PER_THREAD = 200;
+
+    @Autowired
+    ViewCountBuffer viewCountBuffer;
+    @Autowired
+    NewsRepository newsRepository;
+
+    private News hotNews;
+
+    @BeforeAll
+    static void setTime() {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        hotNews = newsRepository.save(News.builder()
+                .url("https://news.example.com/hot-article")
+                .title("인기 뉴스 제목")
+                .summary("인기 뉴스의 요약")
+                .category(NewsCategory.SOCIETY)
+                .headlineScore(new BigDecimal("80.00"))
+                .factScore(new BigDecimal("80.00"))
+                .headlineScoreReason("hs 이유")
+                .factScoreReason("fs 이유")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewCountBuffer.drain();
+        newsRepository.deleteById(hotNews.getNewsId());
+    }
+
+    @Test
+    @DisplayName("하나의 인기 기사에 대한 동시 조회 - 모든 증가분이 반영되고 반영된 엔트리는 버퍼에서 제거")
+    void hotArticleConcurrentViews() throws InterruptedException {
+        Long newsId = hotNews.getNewsId();
+
+        runConcurrently(() -> viewCountBuffer.increment(newsId));
+        viewCountBuffer.drain();
+
+        News news = newsRepository.findById(newsId).orElseThrow();
+        Assertions.assertThat(news.getViewCount()).isEqualTo(THREAD_COUNT * VIEWS_PER_THREAD);
+        Assertions.assertThat(viewCountBuffer.getPendingCount(newsId)).isZero();
+        Assertions.assertThat(viewCountBuffer.getPendingNewsCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 뉴스가 limit보다 많아도 flush 시작 위치를 옮겨가며 모든 뉴스를 반영")
+    void flushRotatesStart() {
+        NewsRepository mockRepository = mock(NewsRepository.class);
+        ViewCountBuffer buffer = new ViewCountBuffer(mockRepository, mock(ApplicationEventPublisher.class));
+        for (long id = 1; id <= 10; id++) {
+            buffer.increment(id);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            //앞쪽 뉴스는 flush 사이에 계속 조회되는 상황
+            buffer.increment(1L);
+            buffer.increment(2L);
+            buffer.flush(3);
+        }
+
+        for (long id = 3; id <= 10; id++) {
+            Assertions.assertThat(buffer.getPendingCount(id)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("하나의 인기 기사에 조회와 flush가 동시에 일어나도 증가분이 유실되거나 중복 반영되지 않음")
+    void hotArticleViewsDuringFlush() throws InterruptedException {
+        NewsRepository mockRepository = mock(NewsRepository.class);
+        LongAdder flushedViews = new LongAdder();
+        doAnswer(invocation -> {
+            List<Long> newsIds = invocation.getArgument(0);
+            int delta = invocation.getArgument(1);
+            flushedViews.add((long) newsIds.size() * delta);
+            return null;
+        }).when(mockRepository).increaseViewCounts(anyList(), anyInt());
+        ViewCountBuffer buffer = new ViewCountBuffer(mockRepository, mock(ApplicationEventPublisher.class));
+
+        //조회하는 동안 계속 flush해서, 증가분이 0이 된 엔트리가 제거되고 다시 생성되는 상황을 반복
+        AtomicBoolean viewing = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (viewing.get()) {
+                buffer.flush(10);
+            }
+        });
+        flusher.start();
+        runConcurrently(() -> buffer.increment(1L));
+        viewing.set(false);
+        flusher.join();
+        buffer.flush(10);
+
+        Assertions.assertThat(flushedViews.sum()).isEqualTo(THREAD_COUNT * VIEWS_PER_THREAD);
+        Assertions.assertThat(buffer.getPendingCount(1L)).isZero();
+    }
+
+    /**
+     * 직접 UPDATE와 버퍼 방식의 처리량 비교 (-Dnews.view-count.benchmark=true 일 때만 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.view-count.benchmark", matches = "true")
+    @DisplayName("하나의 인기 기사에 대한 동시 조회 - 직접 UPDATE vs 버퍼 벤치마크")
+    void hotArticleLoadBenchmark() throws InterruptedException {
+        Long newsId = hotNews.getNewsId();
+        int totalViews = THREAD_COUNT * VIEWS_PER_THREAD;
+
+        //기존 방식: 조회마다 news row에 UPDATE
+        long directElapsed = runConcurrently(() -> newsRepository.increaseViewCounts(List.of(newsId), 1));
+
+        //버퍼 방식: 메모리에서 증가시키고 flush 시 한 번에 반영
+        long bufferedElapsed = runConcurrently(() -> viewCountBuffer.increment(newsId));
+        viewCountBuffer.drain();
+
+        log.info("direct UPDATE: {} views/s, buffered: {} views/s",
+                totalViews * 1000L / Math.max(directElapsed, 1),
+                totalViews * 1000L / Math.max(bufferedElapsed, 1));
+    }
+
+    private long runConcurrently(Runnable view) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+                    view.run();
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+        return System.currentTimeMillis() - start;
+    }
+}
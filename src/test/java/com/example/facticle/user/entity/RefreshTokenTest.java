@@ -0,0 +1,68 @@
+package com.example.facticle.user.entity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class RefreshTokenTest {
+
+    @Test
+    @DisplayName("refresh token은 SHA-256 fingerprint(hex)로 저장하고 같은 토큰만 일치")
+    void fingerprint() {
+        String token = "header." + UUID.randomUUID() + ".signature";
+        RefreshToken refreshToken = RefreshToken.builder()
+                .jti(UUID.randomUUID().toString())
+                .tokenFingerprint(RefreshToken.fingerprint(token))
+                .build();
+
+        assertThat(refreshToken.getTokenFingerprint()).hasSize(64).matches("[0-9a-f]+");
+        assertThat(refreshToken.matches(token)).isTrue();
+        assertThat(refreshToken.matches(token + "x")).isFalse();
+    }
+
+    /**
+     * 토큰 재발급 1회에 필요한 해시 연산(요청 토큰 비교 + 새 토큰 저장)의 CPU 시간 비교
+     * BCrypt(SecurityConfig의 기본 strength 10) vs SHA-256 fingerprint (-Drefresh.token.benchmark=true 일 때만 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "refresh.token.benchmark", matches = "true")
+    @DisplayName("refresh 1회당 CPU 시간: BCrypt vs SHA-256 fingerprint")
+    void refreshCpuBenchmark() {
+        String token = "header." + UUID.randomUUID() + ".signature";
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        String hashedToken = passwordEncoder.encode(token);
+        RefreshToken refreshToken = RefreshToken.builder().tokenFingerprint(RefreshToken.fingerprint(token)).build();
+
+        log.info("BCrypt | {} us cpu/refresh", cpuMicrosPerRefresh(20, () -> {
+            passwordEncoder.matches(token, hashedToken);
+            passwordEncoder.encode(token);
+        }));
+        log.info("SHA-256 fingerprint | {} us cpu/refresh", cpuMicrosPerRefresh(100_000, () -> {
+            refreshToken.matches(token);
+            RefreshToken.fingerprint(token);
+        }));
+    }
+
+    //워밍업 후 현재 스레드의 CPU 시간 평균(마이크로초)
+    private double cpuMicrosPerRefresh(int iterations, Runnable refresh) {
+        for (int i = 0; i < iterations; i++) {
+            refresh.run();
+        }
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            refresh.run();
+        }
+        return (threadMXBean.getCurrentThreadCpuTime() - start) / (double) iterations / 1_000;
+    }
+}
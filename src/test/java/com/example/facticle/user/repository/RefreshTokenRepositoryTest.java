@@ -1,6 +1,7 @@
 package com.example.facticle.user.repository;
 
 import com.example.facticle.user.entity.*;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.TimeZone;
 
 @SpringBootTest
@@ -27,6 +29,8 @@ class RefreshTokenRepositoryTest {
 
     @Autowired
     PasswordEncoder passwordEncoder;
+    @Autowired
+    EntityManager entityManager;
 
 
     private User testUser;
@@ -55,7 +59,8 @@ class RefreshTokenRepositoryTest {
         // 유효한 Refresh Token 저장
         validToken = RefreshToken.builder()
                 .user(testUser)
-                .hashedRefreshToken(passwordEncoder.encode("valid_token_hash"))
+                .jti(UUID.randomUUID().toString())
+                .tokenFingerprint(RefreshToken.fingerprint("valid_token"))
                 .isRevoked(false)
                 .issuedAt(LocalDateTime.now().minusMinutes(5))
                 .expiresAt(LocalDateTime.now().plusMinutes(30)) // 30분 후 만료
@@ -65,7 +70,8 @@ class RefreshTokenRepositoryTest {
         // 만료된 Refresh Token
         expiredToken = RefreshToken.builder()
                 .user(testUser)
-                .hashedRefreshToken(passwordEncoder.encode("expired_token_hash"))
+                .jti(UUID.randomUUID().toString())
+                .tokenFingerprint(RefreshToken.fingerprint("expired_token"))
                 .isRevoked(false)
                 .issuedAt(LocalDateTime.now().minusMinutes(40))
                 .expiresAt(LocalDateTime.now().minusMinutes(10)) // 이미 만료됨
@@ -75,7 +81,8 @@ class RefreshTokenRepositoryTest {
         // Revoke 된 Refresh Token
         revokedToken = RefreshToken.builder()
                 .user(testUser)
-                .hashedRefreshToken(passwordEncoder.encode("revoked_token_hash"))
+                .jti(UUID.randomUUID().toString())
+                .tokenFingerprint(RefreshToken.fingerprint("revoked_token"))
                 .isRevoked(true) // 취소됨
                 .issuedAt(LocalDateTime.now().minusMinutes(10))
                 .expiresAt(LocalDateTime.now().plusMinutes(30))
@@ -96,9 +103,22 @@ class RefreshTokenRepositoryTest {
     @DisplayName("모든 refresh token revoke 테스트")
     void revokeAllByUserTest(){
         refreshTokenRepository.revokeAllByUser(testUser);
+        entityManager.clear(); //벌크 update는 영속성 컨텍스트를 거치지 않으므로 DB에서 다시 조회
 
         Optional<RefreshToken> activeToken = refreshTokenRepository.findValidTokenByUser(testUser);
         Assertions.assertThat(activeToken).isEmpty();
+        //이미 만료된 토큰은 update 대상이 아님
+        Assertions.assertThat(refreshTokenRepository.findById(expiredToken.getTokenId()).get().isRevoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("jti로 refresh token 조회 후 fingerprint 비교")
+    void findByJtiTest(){
+        RefreshToken findToken = refreshTokenRepository.findByJti(validToken.getJti()).get();
+
+        Assertions.assertThat(findToken.getTokenId()).isEqualTo(validToken.getTokenId());
+        Assertions.assertThat(findToken.matches("valid_token")).isTrue();
+        Assertions.assertThat(findToken.matches("expired_token")).isFalse();
     }
 
 }
\ No newline at end of file
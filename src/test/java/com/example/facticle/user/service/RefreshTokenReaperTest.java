@@ -0,0 +1,84 @@
+package com.example.facticle.user.service;
+
+import com.example.facticle.user.entity.*;
+import com.example.facticle.user.repository.RefreshTokenRepository;
+import com.example.facticle.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RefreshTokenReaperTest {
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeAll
+    static void setTime() {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @Test
+    @DisplayName("만료, revoke된 refresh token을 chunk 단위로 삭제하고 삭제 수와 lag 메트릭 기록")
+    void purgeInChunks() {
+        //given, reaper는 테이블 전체를 삭제 대상으로 하므로 다른 토큰이 메트릭에 섞이지 않도록 비우고 시작(트랜잭션 종료 시 롤백)
+        refreshTokenRepository.deleteAllInBatch();
+        User user = userRepository.save(User.builder()
+                .nickname("reaper")
+                .localAuth(new LocalAuth("reaper", "password"))
+                .role(UserRole.USER)
+                .signupType(SignupType.LOCAL)
+                .build());
+        for (int i = 0; i < 5; i++) {
+            saveToken(user, false, LocalDateTime.now().minusMinutes(10 + i));
+        }
+        for (int i = 0; i < 3; i++) {
+            saveToken(user, true, LocalDateTime.now().plusMinutes(30));
+        }
+        RefreshToken validToken = saveToken(user, false, LocalDateTime.now().plusMinutes(30));
+        entityManager.flush();
+        entityManager.clear();
+
+        //chunk 크기 2로 여러 번 나눠서 삭제
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RefreshTokenReaper reaper = new RefreshTokenReaper(refreshTokenRepository, 2, 100, meterRegistry);
+
+        //when
+        reaper.purge();
+
+        //then
+        List<RefreshToken> remainTokens = refreshTokenRepository.findAll();
+        Assertions.assertThat(remainTokens).extracting(RefreshToken::getTokenId).containsExactly(validToken.getTokenId());
+        Assertions.assertThat(meterRegistry.get("refresh.tokens.purged").tag("reason", "expired").counter().count()).isEqualTo(5);
+        Assertions.assertThat(meterRegistry.get("refresh.tokens.purged").tag("reason", "revoked").counter().count()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.get("refresh.tokens.reaper.lag").gauge().value()).isZero();
+    }
+
+    private RefreshToken saveToken(User user, boolean isRevoked, LocalDateTime expiresAt) {
+        return refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .jti(UUID.randomUUID().toString())
+                .tokenFingerprint(RefreshToken.fingerprint(UUID.randomUUID().toString()))
+                .isRevoked(isRevoked)
+                .issuedAt(LocalDateTime.now().minusHours(1))
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
@@ -102,7 +102,8 @@ class UserServiceTest {
         refreshToken1Expire = jwtTokenProvider.createRefreshToken(authentication);
         RefreshToken storedRefreshToken1Expire = RefreshToken.builder()
                 .user(user1)
-                .hashedRefreshToken(passwordEncoder.encode(refreshToken1Expire))
+                .jti(jwtTokenProvider.getJti(refreshToken1Expire))
+                .tokenFingerprint(RefreshToken.fingerprint(refreshToken1Expire))
                 .isRevoked(false)
                 .issuedAt(LocalDateTime.now().minusMinutes(40))
                 .expiresAt(LocalDateTime.now().minusMinutes(10)) //이미 만료
@@ -112,7 +113,8 @@ class UserServiceTest {
         refreshToken1Revoke = jwtTokenProvider.createRefreshToken(authentication);
         RefreshToken storedRefreshToken1Revoke = RefreshToken.builder()
                 .user(user1)
-                .hashedRefreshToken(passwordEncoder.encode(refreshToken1Revoke))
+                .jti(jwtTokenProvider.getJti(refreshToken1Revoke))
+                .tokenFingerprint(RefreshToken.fingerprint(refreshToken1Revoke))
                 .isRevoked(true)
                 .issuedAt(LocalDateTime.now().minusMinutes(10))
                 .expiresAt(LocalDateTime.now().plusMinutes(30))
@@ -122,7 +124,8 @@ class UserServiceTest {
         refreshToken1Valid = jwtTokenProvider.createRefreshToken(authentication);
         RefreshToken storedRefreshToken1Valid = RefreshToken.builder()
                 .user(user1)
-                .hashedRefreshToken(passwordEncoder.encode(refreshToken1Valid))
+                .jti(jwtTokenProvider.getJti(refreshToken1Valid))
+                .tokenFingerprint(RefreshToken.fingerprint(refreshToken1Valid))
                 .isRevoked(false)
                 .issuedAt(LocalDateTime.now().minusMinutes(5))
                 .expiresAt(LocalDateTime.now().plusMinutes(30))
@@ -218,6 +221,14 @@ class UserServiceTest {
         Assertions.assertThat(tokenInfo1.getGrantType()).isEqualTo("Bearer");
         Assertions.assertThat(jwtTokenProvider.validateToken(tokenInfo1.getAccessToken())).isEqualTo(TokenValidationResult.VALID);
         Assertions.assertThat(jwtTokenProvider.validateToken(tokenInfo1.getRefreshToken())).isEqualTo(TokenValidationResult.VALID);
+
+        //새 refresh token은 jti와 fingerprint로 저장되고, 이미 사용한 refresh token은 재사용 불가
+        entityManager.flush();
+        entityManager.clear();
+        RefreshToken storedRefreshToken = refreshTokenRepository.findByJti(jwtTokenProvider.getJti(tokenInfo1.getRefreshToken())).get();
+        Assertions.assertThat(storedRefreshToken.matches(tokenInfo1.getRefreshToken())).isTrue();
+        Assertions.assertThatThrownBy(() -> userService.reCreateToken(refreshToken1Valid))
+                .isInstanceOf(InvalidTokenException.class);
     }
 
     @Test
@@ -236,7 +247,7 @@ class UserServiceTest {
     @DisplayName("로그아웃 - 성공")
     void logoutSuccessTest(){
         RefreshToken refreshToken = refreshTokenRepository.findValidTokenByUser(user1).get();
-        Assertions.assertThat(passwordEncoder.matches(refreshToken1Valid, refreshToken.getHashedRefreshToken())).isTrue();
+        Assertions.assertThat(refreshToken.matches(refreshToken1Valid)).isTrue();
 
         userService.logout(refreshToken1Valid);
 
@@ -246,7 +257,7 @@ class UserServiceTest {
         Optional<RefreshToken> validTokenByUser = refreshTokenRepository.findValidTokenByUser(user1);
         Assertions.assertThat(validTokenByUser).isEmpty();
         List<RefreshToken> revokedTokens = refreshTokenRepository.findByUser(user1);
-        Assertions.assertThat(revokedTokens).allMatch(RefreshToken::isRevoked);
+        Assertions.assertThat(revokedTokens).noneMatch(RefreshToken::isValid);
 
     }
 
@@ -260,7 +271,7 @@ class UserServiceTest {
 
         //만료된 토큰 혹은 revoke된 토큰으로 조회 시에도 동일하게 해당 user의 모든 refresh token을 revoke(공격 방지)
         RefreshToken refreshToken = refreshTokenRepository.findValidTokenByUser(user1).get();
-        Assertions.assertThat(passwordEncoder.matches(refreshToken1Valid, refreshToken.getHashedRefreshToken())).isTrue(); //처음엔 조회 성공
+        Assertions.assertThat(refreshToken.matches(refreshToken1Valid)).isTrue(); //처음엔 조회 성공
 
         userService.logout(refreshToken1Expire);
         entityManager.flush();
@@ -269,7 +280,7 @@ class UserServiceTest {
         Optional<RefreshToken> validTokenByUser = refreshTokenRepository.findValidTokenByUser(user1);
         Assertions.assertThat(validTokenByUser).isEmpty(); //조회 실패
         List<RefreshToken> revokedTokens = refreshTokenRepository.findByUser(user1);
-        Assertions.assertThat(revokedTokens).allMatch(RefreshToken::isRevoked);
+        Assertions.assertThat(revokedTokens).noneMatch(RefreshToken::isValid);
     }
 
     @Test
@@ -0,0 +1,4 @@
+-- 테스트 DB는 Hibernate가 테이블을 생성(ddl-auto: create)하므로, 키워드 검색(MySqlNewsKeywordSearch)에 필요한 FULLTEXT 인덱스는 생성 후 별도로 추가
+-- sql/migration/02_add_news_fulltext_index.sql과 동일
+ALTER TABLE news ADD FULLTEXT INDEX ft_news_title (title) WITH PARSER ngram;
+ALTER TABLE news_content ADD FULLTEXT INDEX ft_news_content_content (content) WITH PARSER ngram;